@@ -0,0 +1,331 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * PageBinderProcessor generates a binder class for every page object with locator annotations.
+ * <p>
+ * For a page {@code LoginPage} it writes {@code LoginPageBinder} into the same package. The binder builds
+ * the locators of the annotated fields once per class and assigns lazy elements of the session's
+ * {@code LocatorCache} to the fields, which replaces the reflective field scan and the dynamic proxies of
+ * {@code PageFactory.initElements}:
+ * <pre>
+ * public LoginPage() {
+ *     LoginPageBinder.bind(this, LocatorCache.of(driverThread));
+ * }
+ * </pre>
+ * Supported are {@code @FindBy}, {@code @FindAll} and {@code @FindBys} of Selenium and {@code @AndroidFindBy}
+ * and {@code @iOSXCUITFindBy} of Appium on fields of type {@code WebElement} or {@code List<WebElement>}.
+ * The binder assigns the fields directly, so they must not be private, static or final. A field has either web
+ * or mobile locators, the binder cannot tell a browser from a native context, so combining them is an error.
+ * Each binder is generated from its page alone with the page as originating element, so the processor is
+ * registered as isolating and Gradle keeps compiling incrementally.
+ *
+ * @author Dipjyoti Metia
+ */
+@SupportedAnnotationTypes({
+        PageBinderProcessor.FIND_BY,
+        PageBinderProcessor.FIND_ALL,
+        PageBinderProcessor.FIND_BYS,
+        PageBinderProcessor.ANDROID_FIND_BY,
+        PageBinderProcessor.IOS_FIND_BY
+})
+public class PageBinderProcessor extends AbstractProcessor {
+    static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    static final String FIND_ALL = "org.openqa.selenium.support.FindAll";
+    static final String FIND_BYS = "org.openqa.selenium.support.FindBys";
+    static final String ANDROID_FIND_BY = "io.appium.java_client.pagefactory.AndroidFindBy";
+    static final String IOS_FIND_BY = "io.appium.java_client.pagefactory.iOSXCUITFindBy";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> pages = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    List<VariableElement> fields = pages.computeIfAbsent((TypeElement) element.getEnclosingElement(), page -> new ArrayList<>());
+                    if (!fields.contains(element)) {
+                        fields.add((VariableElement) element);
+                    }
+                }
+            }
+        }
+        pages.forEach(this::generate);
+        return false;
+    }
+
+    private void generate(TypeElement page, List<VariableElement> fields) {
+        fields.sort(Comparator.comparingInt(page.getEnclosedElements()::indexOf));
+        List<Binding> bindings = new ArrayList<>();
+        for (VariableElement field : fields) {
+            Binding binding = binding(field);
+            if (binding != null) {
+                bindings.add(binding);
+            }
+        }
+        if (bindings.size() != fields.size()) {
+            return;
+        }
+        String pkg = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getQualifiedName().toString().substring(pkg.isEmpty() ? 0 : pkg.length() + 1);
+        String binderName = pageName.replace('.', '_') + "Binder";
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            source.append("package ").append(pkg).append(";\n\n");
+        }
+        String locators = bindings.stream().map(Binding::toString).collect(Collectors.joining());
+        source.append("import com.core.LocatorCache;\n");
+        if (locators.contains("AppiumBy.")) {
+            source.append("import io.appium.java_client.AppiumBy;\n");
+        }
+        source.append("import org.openqa.selenium.By;\n");
+        if (locators.contains("new ByIdOrName(")) {
+            source.append("import org.openqa.selenium.support.ByIdOrName;\n");
+        }
+        for (String by : List.of("ByAll", "ByChained")) {
+            if (locators.contains("new " + by + "(")) {
+                source.append("import org.openqa.selenium.support.pagefactory.").append(by).append(";\n");
+            }
+        }
+        source.append("\nimport javax.annotation.processing.Generated;\n\n")
+                .append("/**\n * Binds the elements of {@link ").append(pageName).append("}.\n */\n")
+                .append("@Generated(\"").append(PageBinderProcessor.class.getName()).append("\")\n")
+                .append("final class ").append(binderName).append(" {\n");
+        for (Binding binding : bindings) {
+            source.append("    private static final By ").append(binding.constant()).append(" = ").append(binding.web() != null ? binding.web() : binding.mobile()).append(";\n");
+            if (binding.web() == null && binding.ios() != null) {
+                source.append("    private static final By ").append(binding.constant()).append("_IOS = ").append(binding.ios()).append(";\n");
+            }
+        }
+        source.append("\n    private ").append(binderName).append("() {\n    }\n\n")
+                .append("    /**\n     * Assigns the elements of a page.\n     *\n")
+                .append("     * @param page  page\n     * @param cache locator cache of the session\n     */\n")
+                .append("    static void bind(").append(pageName).append(" page, LocatorCache cache) {\n");
+        boolean mobile = bindings.stream().anyMatch(binding -> binding.web() == null && binding.ios() != null);
+        if (mobile) {
+            source.append("        boolean ios = cache.isIos();\n");
+        }
+        for (Binding binding : bindings) {
+            String by = binding.web() == null && binding.ios() != null
+                    ? "ios ? " + binding.constant() + "_IOS : " + binding.constant()
+                    : binding.constant();
+            source.append("        page.").append(binding.field()).append(" = cache.").append(binding.list() ? "elements(" : "element(").append(by).append(");\n");
+        }
+        source.append("    }\n}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(pkg.isEmpty() ? binderName : pkg + "." + binderName, page).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Binder not written: " + e.getMessage(), page);
+        }
+    }
+
+    private Binding binding(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            return error(field, "Page element must not be private, static or final");
+        }
+        Boolean list = elementType(field.asType());
+        if (list == null) {
+            return error(field, "Page element must be a WebElement or a List<WebElement>");
+        }
+        String web = null;
+        String android = null;
+        String ios = null;
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            switch (mirror.getAnnotationType().toString()) {
+                case FIND_BY -> web = findBy(field, mirror);
+                case FIND_ALL -> web = nested(field, mirror, "ByAll");
+                case FIND_BYS -> web = nested(field, mirror, "ByChained");
+                case ANDROID_FIND_BY -> android = mobileBy(field, mirror, Map.of(
+                        "uiAutomator", "AppiumBy.androidUIAutomator",
+                        "accessibility", "AppiumBy.accessibilityId",
+                        "id", "By.id",
+                        "className", "By.className",
+                        "tagName", "By.tagName",
+                        "xpath", "By.xpath",
+                        "androidDataMatcher", "AppiumBy.androidDataMatcher",
+                        "androidViewMatcher", "AppiumBy.androidViewMatcher",
+                        "androidViewTag", "AppiumBy.androidViewTag"));
+                case IOS_FIND_BY -> ios = mobileBy(field, mirror, Map.of(
+                        "iOSClassChain", "AppiumBy.iOSClassChain",
+                        "iOSNsPredicate", "AppiumBy.iOSNsPredicateString",
+                        "accessibility", "AppiumBy.accessibilityId",
+                        "id", "By.id",
+                        "className", "By.className",
+                        "tagName", "By.tagName",
+                        "xpath", "By.xpath"));
+                default -> {
+                }
+            }
+        }
+        if (web == null && android == null && ios == null) {
+            return null;
+        }
+        if (web != null && (android != null || ios != null)) {
+            return error(field, "Page element must not combine @FindBy, @FindAll or @FindBys with mobile locators");
+        }
+        return new Binding(field.getSimpleName().toString(), constant(field.getSimpleName().toString()), list, web, android == null ? ios : android, android == null ? null : ios);
+    }
+
+    private String findBy(VariableElement field, AnnotationMirror mirror) {
+        Map<String, Object> values = values(mirror);
+        Set<String> locators = new LinkedHashSet<>();
+        addLocator(locators, "By.id", values.get("id"));
+        addLocator(locators, "By.name", values.get("name"));
+        addLocator(locators, "By.className", values.get("className"));
+        addLocator(locators, "By.cssSelector", values.get("css"));
+        addLocator(locators, "By.tagName", values.get("tagName"));
+        addLocator(locators, "By.linkText", values.get("linkText"));
+        addLocator(locators, "By.partialLinkText", values.get("partialLinkText"));
+        addLocator(locators, "By.xpath", values.get("xpath"));
+        String how = String.valueOf(values.get("how"));
+        String using = (String) values.get("using");
+        if (!"UNSET".equals(how) && using != null && !using.isEmpty()) {
+            addLocator(locators, switch (how) {
+                case "CLASS_NAME" -> "By.className";
+                case "CSS" -> "By.cssSelector";
+                case "ID" -> "By.id";
+                case "ID_OR_NAME" -> "new ByIdOrName";
+                case "LINK_TEXT" -> "By.linkText";
+                case "NAME" -> "By.name";
+                case "PARTIAL_LINK_TEXT" -> "By.partialLinkText";
+                case "TAG_NAME" -> "By.tagName";
+                default -> "By.xpath";
+            }, using);
+        }
+        if (locators.size() != 1) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@FindBy needs exactly one locator", field, mirror);
+            return null;
+        }
+        return locators.iterator().next();
+    }
+
+    private String nested(VariableElement field, AnnotationMirror mirror, String by) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> value = (List<? extends AnnotationValue>) values(mirror).get("value");
+        List<String> children = new ArrayList<>();
+        for (AnnotationValue child : value) {
+            String locator = findBy(field, (AnnotationMirror) child.getValue());
+            if (locator == null) {
+                return null;
+            }
+            children.add(locator);
+        }
+        return children.stream().collect(Collectors.joining(", ", "new " + by + "(", ")"));
+    }
+
+    private String mobileBy(VariableElement field, AnnotationMirror mirror, Map<String, String> strategies) {
+        Map<String, Object> values = values(mirror);
+        Set<String> locators = new LinkedHashSet<>();
+        strategies.forEach((attribute, factory) -> addLocator(locators, factory, values.get(attribute)));
+        if (locators.size() != 1) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@" + mirror.getAnnotationType().asElement().getSimpleName() + " needs exactly one locator", field, mirror);
+            return null;
+        }
+        return locators.iterator().next();
+    }
+
+    private void addLocator(Set<String> locators, String factory, Object value) {
+        if (value instanceof String string && !string.isEmpty()) {
+            locators.add(factory + "(" + processingEnv.getElementUtils().getConstantExpression(string) + ")");
+        }
+    }
+
+    private Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            Object value = entry.getValue().getValue();
+            values.put(entry.getKey().getSimpleName().toString(), value instanceof VariableElement constant ? constant.getSimpleName().toString() : value);
+        }
+        return values;
+    }
+
+    /**
+     * Returns whether a field type is a list of elements, null when it is neither an element nor a list of them.
+     */
+    private Boolean elementType(TypeMirror type) {
+        TypeElement webElement = processingEnv.getElementUtils().getTypeElement(WEB_ELEMENT);
+        if (webElement == null || processingEnv.getTypeUtils().isSameType(type, webElement.asType())) {
+            return Boolean.FALSE;
+        }
+        TypeElement list = processingEnv.getElementUtils().getTypeElement(List.class.getName());
+        if (type instanceof DeclaredType declared
+                && processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(list.asType()))
+                && declared.getTypeArguments().size() == 1
+                && processingEnv.getTypeUtils().isSameType(declared.getTypeArguments().get(0), webElement.asType())) {
+            return Boolean.TRUE;
+        }
+        return null;
+    }
+
+    private static String constant(String field) {
+        return field.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private Binding error(VariableElement field, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, field);
+        return null;
+    }
+
+    /**
+     * Locators of one field, {@code mobile} is the Android locator or the iOS one when the field has no Android
+     * locator, {@code ios} the iOS locator next to an Android one.
+     */
+    private record Binding(String field, String constant, boolean list, String web, String mobile, String ios) {
+    }
+}
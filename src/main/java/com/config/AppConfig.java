@@ -23,6 +23,11 @@ package com.config;
 import com.typesafe.config.Config;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Dipjyoti Metia
  */
@@ -31,21 +36,94 @@ public class AppConfig {
     private final String applicationName;
     private final int appiumPort;
     private final int proxyPort;
+    private final int appiumPoolSize;
+    private final int appiumSystemPort;
+    private final int appiumChromedriverPort;
+    private final int appiumWdaLocalPort;
+    private final int appiumPoolTimeout;
     private final String browserUrl;
     private final String browserAppium;
     private final String deviceFarm;
     private final String sauceUrl;
     private final String sauceAppium;
+    private final boolean driverPoolEnabled;
+    private final int driverPoolSize;
+    private final int driverPoolWarmup;
+    private final int driverPoolTimeout;
+    private final List<String> emulatorAvds;
+    private final int emulatorPoolSize;
+    private final int emulatorBootTimeout;
+    private final int emulatorLeaseTimeout;
+    private final String emulatorSnapshot;
+    private final boolean emulatorHeadless;
+    private final Map<String, Integer> gridLimits;
+    private final int gridDispatchTimeout;
+    private final boolean networkInterceptEnabled;
+    private final List<String> networkBlock;
+    private final long networkMaxImageBytes;
+    private final String networkCacheDir;
+    private final boolean networkCacheRevalidate;
+    private final boolean readinessNetwork;
+    private final int readinessMaxRequestAge;
+    private final int linkPerHost;
+    private final int linkTimeout;
+    private final boolean harStreaming;
+    private final int harMaxBodyBytes;
+    private final boolean harHashBodies;
+    private final boolean commandTimings;
+    private final int commandTimingsLive;
+    private final String evidenceFormat;
+    private final String evidenceImage;
+    private final float evidenceJpegQuality;
+    private final int evidenceDedupDistance;
 
     public AppConfig(Config config) {
         this.applicationName = config.getString("application.name");
         this.appiumPort = config.getInt("appium.appiumport");
         this.proxyPort = config.getInt("appium.proxyport");
+        this.appiumPoolSize = config.getInt("appium.pool.size");
+        this.appiumSystemPort = config.getInt("appium.pool.system_port");
+        this.appiumChromedriverPort = config.getInt("appium.pool.chromedriver_port");
+        this.appiumWdaLocalPort = config.getInt("appium.pool.wda_local_port");
+        this.appiumPoolTimeout = config.getInt("appium.pool.timeout");
         this.deviceFarm = config.getString("aws.deviceFarm");
         this.sauceUrl = config.getString("saucelabs.host");
         this.sauceAppium = config.getString("saucelabs.appium_version");
         this.browserUrl = config.getString("browserstack.host");
         this.browserAppium = config.getString("browserstack.appium_version");
+        this.driverPoolEnabled = config.getBoolean("webdriver.pool.enabled");
+        this.driverPoolSize = config.getInt("webdriver.pool.size");
+        this.driverPoolWarmup = config.getInt("webdriver.pool.warmup");
+        this.driverPoolTimeout = config.getInt("webdriver.pool.timeout");
+        this.emulatorAvds = config.getStringList("emulator.avds");
+        this.emulatorPoolSize = config.getInt("emulator.size");
+        this.emulatorBootTimeout = config.getInt("emulator.boot_timeout");
+        this.emulatorLeaseTimeout = config.getInt("emulator.lease_timeout");
+        this.emulatorSnapshot = config.getString("emulator.snapshot");
+        this.emulatorHeadless = config.getBoolean("emulator.headless");
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        config.getConfigList("grid.dispatcher.providers")
+                .forEach(provider -> limits.put(provider.getString("name"), provider.getInt("limit")));
+        this.gridLimits = Collections.unmodifiableMap(limits);
+        this.gridDispatchTimeout = config.getInt("grid.dispatcher.timeout");
+        this.networkInterceptEnabled = config.getBoolean("network.intercept");
+        this.networkBlock = config.getStringList("network.block");
+        this.networkMaxImageBytes = config.getLong("network.max_image_bytes");
+        this.networkCacheDir = config.getString("network.cache_dir");
+        this.networkCacheRevalidate = config.getBoolean("network.revalidate");
+        this.readinessNetwork = config.getBoolean("readiness.network");
+        this.readinessMaxRequestAge = config.getInt("readiness.max_request_age");
+        this.linkPerHost = config.getInt("links.per_host");
+        this.linkTimeout = config.getInt("links.timeout");
+        this.harStreaming = config.getBoolean("performance.har_streaming");
+        this.harMaxBodyBytes = config.getInt("performance.max_body_bytes");
+        this.harHashBodies = config.getBoolean("performance.hash_bodies");
+        this.commandTimings = config.getBoolean("performance.command_timings");
+        this.commandTimingsLive = config.getInt("performance.command_timings_live");
+        this.evidenceFormat = config.getString("evidence.format");
+        this.evidenceImage = config.getString("evidence.image");
+        this.evidenceJpegQuality = (float) config.getDouble("evidence.jpeg_quality");
+        this.evidenceDedupDistance = config.getInt("evidence.dedup_distance");
     }
 
 }
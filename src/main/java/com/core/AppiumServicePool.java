@@ -0,0 +1,220 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.ios.options.XCUITestOptions;
+import io.appium.java_client.service.local.AppiumDriverLocalService;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AppiumServicePool keeps local Appium servers running across test classes and leases them per device.
+ * <p>
+ * Slot i owns its own port range: Appium on appiumPort + i, UiAutomator2 systemPort, chromedriverPort and
+ * the XCUITest wdaLocalPort at their base + i, so sessions on different devices never fight over a port.
+ * A device gets the slot it used before whenever that slot is free, the server of a slot is started on
+ * its first lease, restarted when it died and only stopped by the shutdown hook.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class AppiumServicePool {
+    private final List<Slot> slots = new ArrayList<>();
+    private final Map<String, Slot> leases = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    /**
+     * Creates a pool, servers are started on demand.
+     *
+     * @param size             number of servers
+     * @param appiumPort       first Appium port
+     * @param systemPort       first UiAutomator2 system port
+     * @param chromedriverPort first chromedriver port
+     * @param wdaLocalPort     first WebDriverAgent port
+     * @param timeout          maximum time to wait for a free server
+     */
+    public AppiumServicePool(int size, int appiumPort, int systemPort, int chromedriverPort, int wdaLocalPort, Duration timeout) {
+        for (int i = 0; i < Math.max(1, size); i++) {
+            slots.add(new Slot(new Ports(appiumPort + i, systemPort + i, chromedriverPort + i, wdaLocalPort + i)));
+        }
+        this.timeout = timeout;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "appium-pool-shutdown"));
+    }
+
+    /**
+     * Leases a running Appium server for a device.
+     *
+     * @param device  device udid
+     * @param factory creates the service of a slot on the given Appium port
+     * @return lease with the server and the ports of the slot
+     * @throws Exception when no server became free in time or the server failed to start
+     */
+    public Lease acquire(String device, ServiceFactory factory) throws Exception {
+        Slot slot = reserve(device);
+        try {
+            if (slot.service == null || !slot.service.isRunning()) {
+                log.info("Starting Appium server on port {} for {}", slot.ports.appium(), device);
+                slot.service = factory.create(slot.ports.appium());
+                slot.service.start();
+            } else {
+                log.info("Reusing Appium server on port {} for {}", slot.ports.appium(), device);
+            }
+            return new Lease(slot.ports, slot.service);
+        } catch (Exception e) {
+            release(device);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the server of a device, it keeps running for the next lease.
+     *
+     * @param device device udid
+     */
+    public synchronized void release(String device) {
+        Slot slot = leases.remove(device);
+        if (slot != null) {
+            slot.leased = false;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Stops all servers.
+     */
+    public synchronized void shutdown() {
+        slots.forEach(slot -> {
+            if (slot.service != null && slot.service.isRunning()) {
+                slot.service.stop();
+            }
+        });
+    }
+
+    private synchronized Slot reserve(String device) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Slot slot = free(device);
+            if (slot != null) {
+                slot.leased = true;
+                slot.device = device;
+                leases.put(device, slot);
+                return slot;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("No free Appium server for " + device + " within " + timeout);
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+    }
+
+    private Slot free(String device) {
+        Slot unused = null;
+        Slot any = null;
+        for (Slot slot : slots) {
+            if (slot.leased) {
+                continue;
+            }
+            if (device.equals(slot.device)) {
+                return slot;
+            }
+            if (unused == null && slot.device == null) {
+                unused = slot;
+            }
+            if (any == null) {
+                any = slot;
+            }
+        }
+        return unused != null ? unused : any;
+    }
+
+    /**
+     * Service factory.
+     */
+    @FunctionalInterface
+    public interface ServiceFactory {
+        AppiumDriverLocalService create(int port);
+    }
+
+    /**
+     * Ports of a slot.
+     *
+     * @param appium       Appium server port
+     * @param system       UiAutomator2 system port
+     * @param chromedriver chromedriver port
+     * @param wdaLocal     WebDriverAgent port
+     */
+    public record Ports(int appium, int system, int chromedriver, int wdaLocal) {
+    }
+
+    /**
+     * Leased server.
+     *
+     * @param ports   ports of the slot
+     * @param service running Appium server
+     */
+    public record Lease(Ports ports, AppiumDriverLocalService service) {
+
+        /**
+         * @return server url
+         */
+        public URL url() {
+            return service.getUrl();
+        }
+
+        /**
+         * Adds the driver ports of the slot to the capabilities.
+         *
+         * @param caps capabilities
+         */
+        public void configure(DesiredCapabilities caps) {
+            caps.setCapability(UiAutomator2Options.SYSTEM_PORT_OPTION, ports.system());
+            caps.setCapability(UiAutomator2Options.CHROMEDRIVER_PORT_OPTION, ports.chromedriver());
+            caps.setCapability(XCUITestOptions.WDA_LOCAL_PORT_OPTION, ports.wdaLocal());
+        }
+    }
+
+    private static final class Slot {
+        private final Ports ports;
+        private AppiumDriverLocalService service;
+        private String device;
+        private boolean leased;
+
+        private Slot(Ports ports) {
+            this.ports = ports;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * AssetInterceptor speeds up page loads of Chromium sessions by answering requests in the browser.
+ * <p>
+ * Requests of the configured {@link ResourceClass resource classes} get an empty response without touching
+ * the network, and images bigger than the configured size are blocked once they have been seen. Static assets
+ * (scripts, styles, fonts and images) that came with an ETag are kept in an on-disk cache shared by all
+ * sessions and runs: the next request for the same url is revalidated with If-None-Match and a 304 answer is
+ * served from disk, or served from disk without asking when revalidation is turned off. A cached asset is
+ * served with the response headers it came with, e.g. the CORS headers of fonts and scripts from another origin,
+ * apart from connection and encoding headers. Responses that vary on a request header other than Accept-Encoding
+ * are not cached, the cache is keyed by url alone.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class AssetInterceptor implements AutoCloseable {
+    private static final List<String> STATIC_EXTENSIONS = List.of(".js", ".mjs", ".css", ".woff", ".woff2", ".ttf", ".otf",
+            ".png", ".jpg", ".jpeg", ".gif", ".webp", ".avif", ".svg", ".ico");
+    private static final Set<String> UNCACHED_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+            "proxy-authorization", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade",
+            "content-encoding", "content-length", "set-cookie");
+    private static final String HEADER = "header.";
+    private static final Map<Path, AssetCache> caches = new ConcurrentHashMap<>();
+
+    private final InterceptorSettings settings;
+    private final AssetCache cache;
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private NetworkInterceptor interceptor;
+
+    private AssetInterceptor(InterceptorSettings settings) {
+        this.settings = settings;
+        this.cache = caches.computeIfAbsent(settings.cache().toAbsolutePath(), AssetCache::new);
+    }
+
+    /**
+     * Intercepts the network of a session.
+     *
+     * @param driver   Chromium session
+     * @param settings interceptor settings
+     * @return interceptor, null when the session has no DevTools
+     */
+    public static AssetInterceptor attach(WebDriver driver, InterceptorSettings settings) {
+        AssetInterceptor asset = new AssetInterceptor(settings);
+        try {
+            asset.interceptor = new NetworkInterceptor(new Augmenter().augment(driver), asset::handle);
+            return asset;
+        } catch (Exception e) {
+            log.warn("Network not intercepted, DevTools not available: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        interceptor.close();
+        log.info("Network interceptor blocked {} requests, served {} assets from cache, {} cache misses",
+                blocked.get(), hits.get(), misses.get());
+    }
+
+    private HttpHandler handle(HttpHandler next) {
+        return request -> {
+            if (request.getMethod() != HttpMethod.GET) {
+                return next.execute(request);
+            }
+            String url = request.getUri();
+            URI uri;
+            try {
+                uri = URI.create(url);
+            } catch (IllegalArgumentException e) {
+                return next.execute(request);
+            }
+            if (isBlocked(uri, url)) {
+                blocked.incrementAndGet();
+                return new HttpResponse().setStatus(204);
+            }
+            if (!isStatic(uri)) {
+                return next.execute(request);
+            }
+            Asset cached = cache.get(url);
+            if (cached != null && cached.etag() != null) {
+                if (!settings.revalidate()) {
+                    HttpResponse response = cache.response(cached);
+                    if (response != null) {
+                        hits.incrementAndGet();
+                        return response;
+                    }
+                }
+                request.setHeader("If-None-Match", cached.etag());
+                HttpResponse response = next.execute(request);
+                if (response.getStatus() == 304) {
+                    HttpResponse stored = cache.response(cached);
+                    if (stored != null) {
+                        hits.incrementAndGet();
+                        return stored;
+                    }
+                    request.removeHeader("If-None-Match");
+                    response = next.execute(request);
+                }
+                misses.incrementAndGet();
+                return store(url, uri, response);
+            }
+            misses.incrementAndGet();
+            return store(url, uri, next.execute(request));
+        };
+    }
+
+    private boolean isBlocked(URI uri, String url) {
+        for (ResourceClass resourceClass : settings.blocked()) {
+            if (resourceClass.matches(uri)) {
+                return true;
+            }
+        }
+        if (settings.maxImageBytes() > 0 && ResourceClass.IMAGES.matches(uri)) {
+            Asset asset = cache.get(url);
+            return asset != null && asset.length() > settings.maxImageBytes();
+        }
+        return false;
+    }
+
+    private HttpResponse store(String url, URI uri, HttpResponse response) {
+        if (response.getStatus() != 200) {
+            return response;
+        }
+        byte[] body = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(body));
+        boolean large = settings.maxImageBytes() > 0 && body.length > settings.maxImageBytes() && ResourceClass.IMAGES.matches(uri);
+        String etag = response.getHeader("ETag");
+        if (large) {
+            cache.put(new Asset(url, null, Map.of(), body.length), null);
+        } else if (etag != null && !varies(response)) {
+            cache.put(new Asset(url, etag, headers(response), body.length), body);
+        }
+        return response;
+    }
+
+    private static boolean varies(HttpResponse response) {
+        for (String vary : response.getHeaders("Vary")) {
+            for (String field : vary.split(",")) {
+                if (!field.isBlank() && !"accept-encoding".equals(field.trim().toLowerCase(Locale.ROOT))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, List<String>> headers(HttpResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.forEachHeader((name, value) -> {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+            }
+        });
+        return headers;
+    }
+
+    private static boolean isStatic(URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase(Locale.ROOT);
+        return STATIC_EXTENSIONS.stream().anyMatch(path::endsWith);
+    }
+
+    /**
+     * Cached asset with the response headers to replay, large images are kept without body and headers to block them.
+     */
+    private record Asset(String url, String etag, Map<String, List<String>> headers, long length) {
+    }
+
+    /**
+     * On-disk asset store, one properties file and one body file per url.
+     */
+    private static final class AssetCache {
+        private final Path directory;
+        private final Map<String, Asset> index = new ConcurrentHashMap<>();
+
+        private AssetCache(Path directory) {
+            this.directory = directory;
+            try {
+                Files.createDirectories(directory);
+                try (Stream<Path> files = Files.list(directory)) {
+                    files.filter(file -> file.toString().endsWith(".properties")).forEach(this::load);
+                }
+                log.info("Asset cache {} holds {} entries", directory, index.size());
+            } catch (IOException e) {
+                log.warn("Asset cache {} not readable: {}", directory, e.getMessage());
+            }
+        }
+
+        private Asset get(String url) {
+            return index.get(url);
+        }
+
+        private HttpResponse response(Asset asset) {
+            try {
+                HttpResponse response = new HttpResponse().setStatus(200)
+                        .setContent(Contents.bytes(Files.readAllBytes(directory.resolve(key(asset.url()) + ".bin"))));
+                asset.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+                return response;
+            } catch (IOException e) {
+                index.remove(asset.url());
+                return null;
+            }
+        }
+
+        private void put(Asset asset, byte[] body) {
+            String key = key(asset.url());
+            try {
+                if (body != null) {
+                    write(directory.resolve(key + ".bin"), body);
+                }
+                Properties properties = new Properties();
+                properties.setProperty("url", asset.url());
+                properties.setProperty("length", String.valueOf(asset.length()));
+                if (asset.etag() != null) {
+                    properties.setProperty("etag", asset.etag());
+                }
+                asset.headers().forEach((name, values) -> properties.setProperty(HEADER + name, String.join("\n", values)));
+                Path temp = Files.createTempFile(directory, key, ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                Files.move(temp, directory.resolve(key + ".properties"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                index.put(asset.url(), asset);
+            } catch (IOException e) {
+                log.warn("Asset {} not cached: {}", asset.url(), e.getMessage());
+            }
+        }
+
+        private void load(Path file) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+                String url = properties.getProperty("url");
+                String etag = properties.getProperty("etag");
+                Map<String, List<String>> headers = new LinkedHashMap<>();
+                properties.stringPropertyNames().stream().filter(name -> name.startsWith(HEADER)).forEach(name ->
+                        headers.put(name.substring(HEADER.length()), List.of(properties.getProperty(name).split("\n"))));
+                if (etag != null && headers.isEmpty()) {
+                    // entry of an older cache without response headers, fetched and stored again
+                    return;
+                }
+                index.put(url, new Asset(url, etag, headers, Long.parseLong(properties.getProperty("length", "0"))));
+            } catch (IOException | RuntimeException e) {
+                log.debug("Skipping asset cache entry {}: {}", file, e.getMessage());
+            }
+        }
+
+        private void write(Path file, byte[] body) throws IOException {
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temp, body);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private static String key(String url) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DomWait blocks until an element condition holds without polling the driver.
+ * <p>
+ * A single asynchronous script installs a MutationObserver (plus transition and animation listeners)
+ * in the page and only returns when the condition is met, so a wait costs one round trip per slice
+ * instead of one per poll. When the script cannot be used (element not attached yet, unsupported
+ * locator, scripts disabled) the wait falls back to a regular WebDriverWait.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class DomWait {
+    private static final long SLICE_MILLIS = 5_000;
+    private static final Duration FALLBACK_POLLING = Duration.ofMillis(250);
+    private static final Set<String> SUPPORTED_LOCATORS = Set.of("css selector", "xpath", "tag name", "link text", "partial link text");
+    private static final String WAIT_SCRIPT = """
+            var mode = arguments[0], targets = arguments[1], using = arguments[2], value = arguments[3];
+            var slice = arguments[4], done = arguments[arguments.length - 1];
+            function find() {
+              if (targets) return targets;
+              if (using === 'css selector') return Array.prototype.slice.call(document.querySelectorAll(value));
+              if (using === 'tag name') return Array.prototype.slice.call(document.getElementsByTagName(value));
+              if (using === 'xpath') {
+                var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), found = [];
+                for (var i = 0; i < snapshot.snapshotLength; i++) found.push(snapshot.snapshotItem(i));
+                return found;
+              }
+              return Array.prototype.filter.call(document.getElementsByTagName('a'), function (a) {
+                var text = (a.innerText || '').trim();
+                return using === 'link text' ? text === value : text.indexOf(value) >= 0;
+              });
+            }
+            function visible(e) {
+              if (!e || !e.isConnected) return false;
+              var style = window.getComputedStyle(e);
+              if (style.display === 'none' || style.visibility === 'hidden' || parseFloat(style.opacity) === 0) return false;
+              var rect = e.getBoundingClientRect();
+              return rect.width > 0 && rect.height > 0;
+            }
+            function check() {
+              var found = find();
+              if (mode === 'invisible') return found.every(function (e) { return !visible(e); });
+              if (found.length === 0) return false;
+              if (targets ? !found.every(visible) : !visible(found[0])) return false;
+              if (mode === 'clickable') return !found[0].disabled && found[0];
+              return targets ? true : found[0];
+            }
+            var result = check();
+            if (result) { done(result); return; }
+            var finished = false, observer, timer, interval;
+            function finish(value) {
+              if (finished) return;
+              finished = true;
+              observer.disconnect();
+              clearTimeout(timer);
+              clearInterval(interval);
+              document.removeEventListener('transitionend', onChange, true);
+              document.removeEventListener('animationend', onChange, true);
+              done(value);
+            }
+            function onChange() { var r = check(); if (r) finish(r); }
+            observer = new MutationObserver(onChange);
+            observer.observe(document.documentElement || document, {subtree: true, childList: true, attributes: true, characterData: true});
+            document.addEventListener('transitionend', onChange, true);
+            document.addEventListener('animationend', onChange, true);
+            interval = setInterval(onChange, 250);
+            timer = setTimeout(function () { finish(check() || null); }, slice);
+            """;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    /**
+     * Creates a wait.
+     *
+     * @param driver  driver
+     * @param timeout maximum time to wait
+     */
+    public DomWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Waits until the element is visible.
+     *
+     * @param element element
+     */
+    public void untilVisible(WebElement element) {
+        await("visible", List.of(element), null, ExpectedConditions.visibilityOf(element));
+    }
+
+    /**
+     * Waits until all elements are visible.
+     *
+     * @param elements elements
+     */
+    public void untilAllVisible(List<WebElement> elements) {
+        await("visible", elements, null, ExpectedConditions.visibilityOfAllElements(elements));
+    }
+
+    /**
+     * Waits until the element is invisible or detached from the page.
+     *
+     * @param element element
+     */
+    public void untilInvisible(WebElement element) {
+        untilAllInvisible(List.of(element));
+    }
+
+    /**
+     * Waits until all elements are invisible or detached from the page.
+     *
+     * @param elements elements
+     */
+    public void untilAllInvisible(List<WebElement> elements) {
+        try {
+            await("invisible", elements, null, ExpectedConditions.invisibilityOfAllElements(elements));
+        } catch (StaleElementReferenceException e) {
+            log.debug("Element detached from the page");
+        }
+    }
+
+    /**
+     * Waits until the element located by the locator is visible and enabled.
+     *
+     * @param locator locator
+     * @return clickable element
+     */
+    public WebElement untilClickable(By locator) {
+        return await("clickable", null, locator, ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    /**
+     * Waits until the element located by the locator is visible.
+     *
+     * @param locator locator
+     * @return visible element
+     */
+    public WebElement untilVisible(By locator) {
+        return await("visible", null, locator, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(String mode, List<WebElement> targets, By locator, ExpectedCondition<T> fallback) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String using = null;
+        Object value = null;
+        if (locator != null) {
+            if (!(locator instanceof By.Remotable remotable)
+                    || !SUPPORTED_LOCATORS.contains(remotable.getRemoteParameters().using())) {
+                return poll(fallback, deadline);
+            }
+            using = remotable.getRemoteParameters().using();
+            value = remotable.getRemoteParameters().value();
+        }
+        try {
+            while (true) {
+                long remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+                if (remaining <= 0) {
+                    throw new TimeoutException("Expected condition failed: waiting for " + mode + " " + describe(targets, locator));
+                }
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT,
+                        mode, targets, using, value, Math.min(remaining, SLICE_MILLIS));
+                if (result instanceof WebElement element) {
+                    return (T) element;
+                }
+                if (Boolean.TRUE.equals(result)) {
+                    return (T) Boolean.TRUE;
+                }
+            }
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            if ("invisible".equals(mode)) {
+                return (T) Boolean.TRUE;
+            }
+            return poll(fallback, deadline);
+        } catch (ScriptTimeoutException e) {
+            log.debug("Script timeout of the session is shorter than the wait slice, falling back to polling: {}", e.getMessage());
+            return poll(fallback, deadline);
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            log.debug("Event driven wait not available, falling back to polling: {}", e.getMessage());
+            return poll(fallback, deadline);
+        }
+    }
+
+    private <T> T poll(ExpectedCondition<T> condition, long deadline) {
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        return new WebDriverWait(driver, remaining, FALLBACK_POLLING).until(condition);
+    }
+
+    private String describe(List<WebElement> targets, By locator) {
+        return locator != null ? locator.toString() : String.valueOf(targets);
+    }
+}
@@ -25,6 +25,10 @@ SOFTWARE.
 package com.core;
 
 import com.config.AppConfig;
+import com.reporting.listeners.WebDriverEventHandler;
+import com.reporting.performance.HarSettings;
+import com.reporting.performance.HarStream;
+import com.reporting.performance.WebVitalsCollector;
 import com.typesafe.config.ConfigFactory;
 import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
@@ -36,15 +40,18 @@ import net.lightbody.bmp.core.har.Har;
 import net.lightbody.bmp.proxy.CaptureType;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.remote.service.DriverService;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Parameters;
 
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.net.Inet4Address;
+import java.nio.file.Paths;
+import java.time.Duration;
 
 /**
  * Driver controller
@@ -52,18 +59,37 @@ import java.net.Inet4Address;
 @Slf4j
 public class DriverController extends WebOptions {
     private static final AppConfig appConfig = new AppConfig(ConfigFactory.load());
-    private static WebDriver driverThread = null;
-    private static BrowserMobProxyServer proxy;
-    DriverService appiumService = null;
+    private static final GridDispatcher gridDispatcher = new GridDispatcher(appConfig.getGridLimits(),
+            Duration.ofSeconds(appConfig.getGridDispatchTimeout()));
+    private static final WebDriverPool driverPool = new WebDriverPool(appConfig.getDriverPoolSize(),
+            appConfig.getDriverPoolWarmup(), Duration.ofSeconds(appConfig.getDriverPoolTimeout()),
+            DriverController::quitSession);
+    private static final EmulatorPool emulatorPool = new EmulatorPool(appConfig.getEmulatorAvds(),
+            appConfig.getEmulatorPoolSize(), Duration.ofSeconds(appConfig.getEmulatorBootTimeout()),
+            appConfig.getEmulatorSnapshot(), appConfig.isEmulatorHeadless());
+    private static final AppiumServicePool appiumPool = new AppiumServicePool(appConfig.getAppiumPoolSize(),
+            appConfig.getAppiumPort(), appConfig.getAppiumSystemPort(), appConfig.getAppiumChromedriverPort(),
+            appConfig.getAppiumWdaLocalPort(), Duration.ofSeconds(appConfig.getAppiumPoolTimeout()));
+    private static final String POOLED_SESSION = "HybridTestFramework pooled session";
+    private static final InterceptorSettings interceptorSettings = InterceptorSettings.of(appConfig);
+    private String appiumDevice = null;
+    private BrowserMobProxyServer proxy = null;
+    private HarStream harStream = null;
+    private WebVitalsCollector vitals = null;
+    private AssetInterceptor interceptor = null;
     private String testName = null;
+    private WebDriverPool.Key poolKey = null;
 
     /**
      * Configures and returns desired capabilities for performance testing.
      * Initializes the BrowserMobProxy server and sets the required proxy settings.
+     * With HAR streaming enabled the traffic is written to Reports/performance while the test runs.
+     * The proxy and the HAR stream belong to this test class, so classes running in parallel record separately.
      *
      * @return DesiredCapabilities object with performance testing capabilities
      */
-    protected static DesiredCapabilities performance() {
+    @Override
+    protected DesiredCapabilities performance() {
         log.info("Make sure that Docker containers are up and running");
         proxy = new BrowserMobProxyServer();
         proxy.start();
@@ -75,8 +101,13 @@ public class DriverController extends WebOptions {
         } catch (Exception e) {
             log.error(e.getMessage());
         }
-        proxy.enableHarCaptureTypes(CaptureType.REQUEST_CONTENT, CaptureType.RESPONSE_CONTENT);
-        proxy.newHar("TestPerformance");
+        HarSettings harSettings = HarSettings.of(appConfig);
+        if (harSettings.streaming()) {
+            harStream = HarStream.attach(proxy, Paths.get("Reports", "performance"), testName, harSettings);
+        } else {
+            proxy.enableHarCaptureTypes(CaptureType.REQUEST_CONTENT, CaptureType.RESPONSE_CONTENT);
+            proxy.newHar("TestPerformance");
+        }
         DesiredCapabilities caps = new DesiredCapabilities();
         caps.setCapability(CapabilityType.PROXY, seleniumProxy);
         return caps;
@@ -86,10 +117,10 @@ public class DriverController extends WebOptions {
      * Initializes the appropriate driver (web or mobile) based on the provided parameters.
      * This method should be invoked before executing any test.
      *
-     * @param type    The type of test to run, either "web" or "mobile"
+     * @param type    The type of test to run, either "web", "playwright" or "mobile"
      * @param browser The browser to use for web testing (e.g. "chrome", "firefox", "edge")
      * @param device  The mobile device to use for mobile testing (e.g. "PIXEL", "samsung", "iPhone16", "IPHONE", "EMULATOR")
-     * @param grid    The environment to run the test in (e.g. "docker", "browserstack", "lambda", "local")
+     * @param grid    The environment to run the test in (e.g. "docker", "browserstack", "lambda", "local", "dispatch")
      * @param perf    Flag to enable performance testing ("true" to enable, "false" to disable)
      */
     @Parameters({"type", "browser", "device", "grid", "perf"})
@@ -98,11 +129,36 @@ public class DriverController extends WebOptions {
         testName = this.getClass().getName().substring(24);
         switch (type) {
             case "web" -> initWebDriver(browser, grid, Boolean.valueOf(perf));
+            case "playwright" -> initPlaywright(browser, grid);
             case "mobile" -> initMobileDriver(device, grid);
             default -> log.info("select test type to proceed with one testing");
         }
     }
 
+    /**
+     * Quits a session and frees the grid slot it held.
+     *
+     * @param driver session to quit
+     */
+    private static void quitSession(WebDriver driver) {
+        try {
+            driver.quit();
+        } finally {
+            gridDispatcher.release(driver);
+        }
+    }
+
+    /**
+     * Starts a new page of the streamed HAR, the entries of the previous page are in their own file.
+     *
+     * @param title page title
+     */
+    protected void newPerformancePage(String title) {
+        if (harStream != null) {
+            harStream.newPage(title);
+        }
+    }
+
     /**
      * Returns the AppConfig object, which provides application configurations.
      *
@@ -114,30 +170,109 @@ public class DriverController extends WebOptions {
 
     /**
      * Returns the WebDriver object for the current test.
+     * Test classes get the session they created, page objects get the session bound to the current thread.
      *
      * @return WebDriver object for the current test
      */
     public WebDriver getWebDriver() {
-        return driverThread;
+        WebDriver driver = DriverRegistry.getDriver(this);
+        return driver != null ? driver : DriverRegistry.getDriver();
+    }
+
+    /**
+     * Returns the Playwright session for the current test.
+     *
+     * @return PlaywrightSession for the current test, null when the suite does not run on Playwright
+     */
+    public PlaywrightSession getPlaywrightSession() {
+        PlaywrightSession session = DriverRegistry.getSession(this);
+        return session != null ? session : DriverRegistry.getSession();
+    }
+
+    /**
+     * Initializes a Playwright session based on the provided browser and grid.
+     *
+     * @param browser The browser to use for web testing (e.g. "chrome", "firefox", "edge", "webkit")
+     * @param grid    "local" to launch the browser, otherwise the session connects to PLAYWRIGHT_WS_ENDPOINT
+     */
+    private void initPlaywright(String browser, String grid) {
+        try {
+            DriverRegistry.register(this, PlaywrightSession.start(browser, grid));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
     }
 
     /**
      * Initializes the web driver based on the provided browser, grid, and performance testing flag.
      * Supports running tests on local and remote environments.
+     * When the driver pool is enabled sessions are leased from the {@link WebDriverPool}, which only keeps sessions
+     * with DevTools, performance sessions are always started fresh because each of them owns a BrowserMob proxy.
+     * Pooled sessions are created from the pool key alone, as warm sessions are started for whichever class asks
+     * first, and are named after the test class on every lease.
+     * Chrome and Edge sessions get the {@link AssetInterceptor} when it is enabled, except in performance mode.
+     * The session is wrapped in an EventFiringDecorator with its {@link LocatorCache} as listener and, with command
+     * timings enabled, the {@link WebDriverEventHandler}, which times every command. The Web Vitals collector and
+     * the interceptor work on the undecorated session.
      *
      * @param browser The browser to use for web testing (e.g. "chrome", "firefox", "edge")
-     * @param grid    The environment to run the test in (e.g. "aws", "docker", "browserstack", "lambda", "local")
+     * @param grid    The environment to run the test in (e.g. "aws", "docker", "browserstack", "lambda", "local", "dispatch")
      * @param perf    Flag to enable performance testing ("true" to enable, "false" to disable)
      */
     private synchronized void initWebDriver(String browser, String grid, Boolean perf) {
         log.info("Setup WebDriver Browser: {} Grid: {} Performance: {}", browser, grid, perf);
         try {
-            driverThread = setupWebDriver(grid, browser, testName, perf);
+            if (appConfig.isDriverPoolEnabled() && !perf) {
+                WebDriverPool.Key key = new WebDriverPool.Key(browser, grid, perf);
+                WebDriver driver = driverPool.acquire(key, () -> createWebDriver(grid, browser, perf, POOLED_SESSION));
+                poolKey = key;
+                nameSession(driver, "dispatch".equals(grid) ? gridDispatcher.provider(driver) : grid, testName);
+                DriverRegistry.register(this, instrument(driver));
+                attachInterceptor(driver, browser, perf);
+            } else {
+                WebDriver driver = createWebDriver(grid, browser, perf, testName);
+                DriverRegistry.register(this, instrument(driver));
+                if (perf) {
+                    vitals = WebVitalsCollector.start(driver);
+                    newPerformancePage(testName);
+                }
+                attachInterceptor(driver, browser, perf);
+            }
         } catch (Exception e) {
             log.error(e.getMessage());
         }
     }
 
+    private static WebDriver instrument(WebDriver driver) {
+        return appConfig.isCommandTimings()
+                ? LocatorCache.decorate(driver, new WebDriverEventHandler())
+                : LocatorCache.decorate(driver);
+    }
+
+    private void attachInterceptor(WebDriver driver, String browser, Boolean perf) {
+        if (interceptorSettings.enabled() && !perf && ("chrome".equals(browser) || "edge".equals(browser))) {
+            interceptor = AssetInterceptor.attach(driver, interceptorSettings);
+        }
+    }
+
+    /**
+     * Creates a web session on the given grid. The "dispatch" grid lets the {@link GridDispatcher} pick a provider
+     * with free capacity and moves on to the next provider when the session cannot be created.
+     *
+     * @param grid    The environment to run the test in
+     * @param browser The browser to use for web testing
+     * @param perf    Flag to enable performance testing
+     * @param name    session name shown by cloud providers
+     * @return WebDriver session
+     * @throws Exception when the session could not be created
+     */
+    private WebDriver createWebDriver(String grid, String browser, Boolean perf, String name) throws Exception {
+        if (!"dispatch".equals(grid)) {
+            return setupWebDriver(grid, browser, name, perf);
+        }
+        return gridDispatcher.dispatch(provider -> setupWebDriver(provider, browser, name, perf));
+    }
+
     /**
      * Initializes the mobile driver based on the provided device and cloud platform.
      * Supports running tests on local and remote environments.
@@ -152,14 +287,16 @@ public class DriverController extends WebOptions {
             switch (device) {
                 case "s23", "iPhone16" -> {
                     cloudMobileCapabilities(cloud, caps, device);
-                    driverThread = new AppiumDriver(setupMobileGrid(cloud), caps);
+                    DriverRegistry.register(this, new AppiumDriver(new ScreenChangeExecutor(setupMobileGrid(cloud)), caps));
                 }
                 case "EMULATOR" -> {
-                    appiumService = createAppiumService();
-                    caps.setCapability(UiAutomator2Options.UDID_OPTION, "emulator-5554");
+                    EmulatorPool.Emulator emulator = emulatorPool.acquire(Duration.ofSeconds(appConfig.getEmulatorLeaseTimeout()));
+                    AppiumServicePool.Lease appium = appiumPool.acquire(emulator.serial(), this::createAppiumService);
+                    appiumDevice = emulator.serial();
+                    caps.setCapability(UiAutomator2Options.UDID_OPTION, emulator.serial());
                     caps.setCapability(UiAutomator2Options.DEVICE_NAME_OPTION, "PIXEL");
-                    appiumService.start();
-                    driverThread = new AndroidDriver(setupMobileGrid(cloud), caps);
+                    appium.configure(caps);
+                    DriverRegistry.register(this, new AndroidDriver(new ScreenChangeExecutor(appium.url()), caps));
                 }
                 default -> log.info("Required device selection");
             }
@@ -169,28 +306,64 @@ public class DriverController extends WebOptions {
     }
 
     /**
-     * Clean up after running tests. If performance testing was enabled, save the HAR file to the Reports folder.
-     * Close the WebDriver and stop the Appium server if it was used.
+     * Clean up after running tests. If performance testing was enabled, save the HAR file to the Reports folder
+     * or finish the streamed HAR, and write the Web Vitals report.
+     * Close the WebDriver, or return it to the pool when it was leased.
+     * A leased Appium server and emulator go back to their pools, the server keeps running for the next class.
      */
     @AfterClass
     public void tearDown() {
         try {
-            Har har = proxy.getHar();
-            FileOutputStream fos = new FileOutputStream("Reports\\performance\\" + testName + ".har");
-            har.writeTo(fos);
+            if (harStream != null) {
+                harStream.close();
+                harStream = null;
+            } else {
+                Har har = proxy.getHar();
+                FileOutputStream fos = new FileOutputStream("Reports\\performance\\" + testName + ".har");
+                har.writeTo(fos);
+            }
             proxy.stop();
+            proxy = null;
             log.info("Performance reports will be available at Report folder");
         } catch (Exception e) {
             log.info("Performance tests not included");
         } finally {
-            if (driverThread != null) {
-                driverThread.quit();
-            } else {
-                if (appiumService != null) {
-                    appiumService.stop();
-                    stopAppiumServer();
+            if (vitals != null) {
+                try {
+                    vitals.write(Paths.get("Reports", "performance", testName + "_vitals.json"));
+                } catch (IOException e) {
+                    log.error("Web Vitals report not written: {}", e.getMessage());
                 }
+                vitals.close();
+                vitals = null;
+            }
+            if (interceptor != null) {
+                interceptor.close();
+                interceptor = null;
+            }
+            PlaywrightSession session = DriverRegistry.removeSession(this);
+            if (session != null) {
+                session.close();
+            }
+            WebDriver driver = DriverRegistry.remove(this);
+            if (driver != null) {
+                LocatorCache.release(driver);
+            }
+            if (driver instanceof WrapsDriver decorated) {
+                // pools and the grid dispatcher know the session, not its decorator
+                driver = decorated.getWrappedDriver();
+            }
+            if (driver != null && poolKey != null) {
+                driverPool.release(poolKey, driver);
+                poolKey = null;
+            } else if (driver != null) {
+                quitSession(driver);
+            }
+            if (appiumDevice != null) {
+                appiumPool.release(appiumDevice);
+                appiumDevice = null;
             }
+            emulatorPool.release();
         }
     }
 }
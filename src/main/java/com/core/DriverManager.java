@@ -26,7 +26,9 @@ package com.core;
 
 
 import com.config.AppConfig;
+import com.microsoft.playwright.Page;
 import org.openqa.selenium.WebDriver;
+import org.testng.annotations.BeforeMethod;
 
 /**
  * DriverManager class is responsible for handling WebDriver instance management.
@@ -40,9 +42,13 @@ public class DriverManager extends DriverController {
      */
     public AppConfig appConfig;
     /**
-     * WebDriver instance to manage the WebDriver for the current thread.
+     * WebDriver instance to manage the WebDriver for the current thread, resolved from the {@link DriverRegistry}.
      */
     public WebDriver driverThread;
+    /**
+     * Playwright page of the current thread, resolved from the {@link DriverRegistry} for Playwright suites.
+     */
+    public Page page;
 
     /**
      * Default constructor for DriverManager.
@@ -51,5 +57,22 @@ public class DriverManager extends DriverController {
     public DriverManager() {
         this.appConfig = super.getAppConfig();
         this.driverThread = super.getWebDriver();
+        this.page = resolvePage();
+    }
+
+    /**
+     * Binds the session of this test class to the worker thread running the next test method,
+     * so methods of the same class may run on a different thread than the class setup.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void bindWebDriver() {
+        DriverRegistry.bind(this);
+        this.driverThread = super.getWebDriver();
+        this.page = resolvePage();
+    }
+
+    private Page resolvePage() {
+        PlaywrightSession session = super.getPlaywrightSession();
+        return session != null ? session.getPage() : null;
     }
 }
@@ -0,0 +1,160 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DriverRegistry keeps track of the WebDriver sessions created by the test classes.
+ * <p>
+ * Every session is owned by the test class instance that created it and is bound to the
+ * worker thread currently executing that instance, so parallel TestNG workers never share a browser.
+ * Page objects created on a worker thread resolve the driver bound to that thread.
+ * Playwright sessions are tracked the same way.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class DriverRegistry {
+    private static final Map<Object, WebDriver> drivers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WebDriver> currentDriver = new ThreadLocal<>();
+    private static final Map<Object, PlaywrightSession> sessions = new ConcurrentHashMap<>();
+    private static final ThreadLocal<PlaywrightSession> currentSession = new ThreadLocal<>();
+
+    private DriverRegistry() {
+    }
+
+    /**
+     * Registers a driver for the given owner and binds it to the current thread.
+     *
+     * @param owner  test class instance owning the session
+     * @param driver driver session
+     */
+    public static void register(Object owner, WebDriver driver) {
+        if (driver == null) {
+            log.error("No driver session to register for {}", owner.getClass().getSimpleName());
+            return;
+        }
+        drivers.put(owner, driver);
+        currentDriver.set(driver);
+    }
+
+    /**
+     * Registers a Playwright session for the given owner and binds it to the current thread.
+     *
+     * @param owner   test class instance owning the session
+     * @param session Playwright session
+     */
+    public static void register(Object owner, PlaywrightSession session) {
+        sessions.put(owner, session);
+        currentSession.set(session);
+    }
+
+    /**
+     * Binds the driver and Playwright session of the given owner to the current thread.
+     *
+     * @param owner test class instance owning the session
+     */
+    public static void bind(Object owner) {
+        WebDriver driver = drivers.get(owner);
+        if (driver != null) {
+            currentDriver.set(driver);
+        }
+        PlaywrightSession session = sessions.get(owner);
+        if (session != null) {
+            currentSession.set(session);
+        }
+    }
+
+    /**
+     * Returns the driver bound to the current thread.
+     *
+     * @return driver or null when no session is bound
+     */
+    public static WebDriver getDriver() {
+        return currentDriver.get();
+    }
+
+    /**
+     * Returns the driver registered for the given owner.
+     *
+     * @param owner test class instance owning the session
+     * @return driver or null when the owner has no session
+     */
+    public static WebDriver getDriver(Object owner) {
+        return drivers.get(owner);
+    }
+
+    /**
+     * Removes the driver of the given owner and unbinds it from the current thread.
+     *
+     * @param owner test class instance owning the session
+     * @return removed driver or null when the owner has no session
+     */
+    public static WebDriver remove(Object owner) {
+        WebDriver driver = drivers.remove(owner);
+        if (driver != null && driver == currentDriver.get()) {
+            currentDriver.remove();
+        }
+        return driver;
+    }
+
+    /**
+     * Returns the Playwright session bound to the current thread.
+     *
+     * @return session or null when no session is bound
+     */
+    public static PlaywrightSession getSession() {
+        return currentSession.get();
+    }
+
+    /**
+     * Returns the Playwright session registered for the given owner.
+     *
+     * @param owner test class instance owning the session
+     * @return session or null when the owner has no session
+     */
+    public static PlaywrightSession getSession(Object owner) {
+        return sessions.get(owner);
+    }
+
+    /**
+     * Removes the Playwright session of the given owner and unbinds it from the current thread.
+     *
+     * @param owner test class instance owning the session
+     * @return removed session or null when the owner has no session
+     */
+    public static PlaywrightSession removeSession(Object owner) {
+        PlaywrightSession session = sessions.remove(owner);
+        if (session != null && session == currentSession.get()) {
+            currentSession.remove();
+        }
+        return session;
+    }
+}
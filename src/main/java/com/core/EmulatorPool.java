@@ -0,0 +1,278 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import com.utils.ADB;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * EmulatorPool boots a set of Android emulators in parallel and leases them to test threads.
+ * <p>
+ * Slot i runs on console port 5554 + 2i, so every emulator has a stable serial. The pool boots all slots
+ * on the first request, an emulator becomes available as soon as it reports sys.boot_completed. After
+ * the first boot each emulator saves a snapshot which is loaded again when a test class returns it, so the
+ * next class starts from a clean device without a cold boot. The first slot of every AVD owns it, further
+ * slots of the same AVD run read-only and cannot save a snapshot. A read-only emulator discards its changes on
+ * exit, so with a snapshot configured it is killed and cold booted again when a test class returns it.
+ * A snapshot carries a marker property, a restore counts only when the device reports the marker again.
+ * An emulator failing the restore is killed and its slot is booted again in the background.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class EmulatorPool {
+    private static final int FIRST_PORT = 5554;
+    private static final int LAST_PORT = 5682;
+    private static final String MARKER = "debug.emulatorpool.snapshot";
+    private static final String LEASED = "leased";
+
+    private final List<String> avds;
+    private final int size;
+    private final Duration bootTimeout;
+    private final String snapshot;
+    private final boolean headless;
+    private final BlockingQueue<Emulator> idle = new LinkedBlockingQueue<>();
+    private final List<Emulator> running = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Emulator> leases = new ThreadLocal<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicInteger booting = new AtomicInteger();
+    private final AtomicInteger threads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "emulator-pool-" + threads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a pool, nothing is started before the first lease.
+     *
+     * @param avds        AVD names, slots use them round robin and share an AVD read-only when there are more slots than AVDs
+     * @param size        number of emulators
+     * @param bootTimeout maximum time for an emulator to boot or restore
+     * @param snapshot    snapshot restored between test classes, empty to keep the device state
+     * @param headless    run emulators without window
+     */
+    public EmulatorPool(List<String> avds, int size, Duration bootTimeout, String snapshot, boolean headless) {
+        this.avds = List.copyOf(avds);
+        this.size = Math.min(Math.max(1, size), (LAST_PORT - FIRST_PORT) / 2 + 1);
+        this.bootTimeout = bootTimeout;
+        this.snapshot = snapshot;
+        this.headless = headless;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "emulator-pool-shutdown"));
+    }
+
+    /**
+     * Leases an emulator to the current thread, a thread already holding one gets the same emulator.
+     *
+     * @param timeout maximum time to wait for a booted emulator
+     * @return leased emulator
+     * @throws Exception when no emulator became available in time
+     */
+    public Emulator acquire(Duration timeout) throws Exception {
+        Emulator leased = leases.get();
+        if (leased != null) {
+            return leased;
+        }
+        if (avds.isEmpty()) {
+            throw new IllegalStateException("No AVD configured for the emulator pool");
+        }
+        if (started.compareAndSet(false, true)) {
+            for (int slot = 0; slot < size; slot++) {
+                boot(slot);
+            }
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Emulator emulator = idle.poll(1, TimeUnit.SECONDS);
+            if (emulator != null) {
+                leases.set(emulator);
+                log.info("Leased {} ({}) to {}", emulator.serial(), emulator.avd(), Thread.currentThread().getName());
+                return emulator;
+            }
+            if (running.isEmpty() && booting.get() == 0) {
+                throw new IllegalStateException("No emulator of the pool could be booted");
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new TimeoutException("No free emulator within " + timeout);
+            }
+        }
+    }
+
+    /**
+     * Returns the emulator of the current thread, it is restored from the snapshot or cold booted in the background.
+     */
+    public void release() {
+        Emulator emulator = leases.get();
+        if (emulator == null) {
+            return;
+        }
+        leases.remove();
+        if (emulator.readOnly() && !snapshot.isEmpty()) {
+            log.info("Cold booting read-only {} for a clean device", emulator.serial());
+            executor.submit(() -> recycle(emulator));
+            return;
+        }
+        executor.submit(() -> {
+            try {
+                if (emulator.snapshot()) {
+                    restore(new ADB(emulator.serial()));
+                }
+                idle.offer(emulator);
+            } catch (Exception e) {
+                log.warn("Restoring {} failed, booting it again: {}", emulator.serial(), e.getMessage());
+                recycle(emulator);
+            }
+        });
+    }
+
+    /**
+     * Kills all emulators.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        running.forEach(this::kill);
+        idle.clear();
+    }
+
+    private void boot(int slot) {
+        booting.incrementAndGet();
+        executor.submit(() -> {
+            String avd = avds.get(slot % avds.size());
+            int port = FIRST_PORT + 2 * slot;
+            Process process = null;
+            try {
+                boolean readOnly = slot >= avds.size();
+                process = ADB.startEmulator(avd, port, readOnly, headless);
+                ADB adb = new ADB("emulator-" + port);
+                adb.waitForBoot(bootTimeout);
+                boolean saved = false;
+                if (!snapshot.isEmpty() && !readOnly) {
+                    try {
+                        adb.setProperty(MARKER, snapshot);
+                        adb.saveSnapshot(snapshot);
+                        saved = true;
+                    } catch (Exception e) {
+                        log.warn("Snapshot of emulator-{} not saved, it is reused without restore: {}", port, e.getMessage());
+                    }
+                }
+                Emulator emulator = new Emulator(slot, avd, port, readOnly, saved, process);
+                running.add(emulator);
+                idle.offer(emulator);
+            } catch (Exception e) {
+                log.error("Failed to boot {} on port {}: {}", avd, port, e.getMessage());
+                if (process != null) {
+                    process.destroyForcibly();
+                }
+            } finally {
+                booting.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Loads the snapshot and waits until the device reports the marker of the snapshot, which is replaced
+     * before the load: sys.boot_completed stays set when the load silently keeps the current state.
+     *
+     * @param adb emulator
+     */
+    private void restore(ADB adb) throws Exception {
+        adb.setProperty(MARKER, LEASED);
+        adb.loadSnapshot(snapshot);
+        long deadline = System.nanoTime() + bootTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if (snapshot.equals(adb.getProperty(MARKER))) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Emulator not reachable after snapshot load: {}", e.getMessage());
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+        throw new TimeoutException("Snapshot " + snapshot + " was not restored within " + bootTimeout);
+    }
+
+    /**
+     * Kills an emulator and boots its slot again. The slot counts as booting before the emulator leaves the running
+     * list, so a concurrent lease keeps waiting instead of finding the pool empty.
+     *
+     * @param emulator emulator to replace
+     */
+    private void recycle(Emulator emulator) {
+        booting.incrementAndGet();
+        try {
+            kill(emulator);
+            boot(emulator.slot());
+        } finally {
+            booting.decrementAndGet();
+        }
+    }
+
+    private void kill(Emulator emulator) {
+        running.remove(emulator);
+        try {
+            new ADB(emulator.serial()).killEmulator();
+            if (!emulator.process().waitFor(10, TimeUnit.SECONDS)) {
+                emulator.process().destroyForcibly();
+            }
+        } catch (Exception e) {
+            emulator.process().destroyForcibly();
+        }
+    }
+
+    /**
+     * Emulator of the pool.
+     *
+     * @param slot     pool slot
+     * @param avd      AVD name
+     * @param port     console port
+     * @param readOnly whether the emulator shares its AVD read-only
+     * @param snapshot whether a clean snapshot was saved
+     * @param process  emulator process
+     */
+    public record Emulator(int slot, String avd, int port, boolean readOnly, boolean snapshot, Process process) {
+
+        /**
+         * @return adb serial
+         */
+        public String serial() {
+            return "emulator-" + port;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GridDispatcher spreads web sessions over several grid providers.
+ * <p>
+ * Each provider has a concurrency limit. A session request is given the first provider, in configuration
+ * order, that still has a free slot and spills over to the next provider when a grid is saturated.
+ * When every grid is saturated the request is queued until a session is released or the timeout expires,
+ * queued requests are served in arrival order. A session holds its slot until it is released, pooled idle
+ * sessions of the {@link WebDriverPool} therefore keep their provider's capacity while they wait for a lease.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class GridDispatcher {
+    private final List<Grid> grids = new ArrayList<>();
+    private final Map<WebDriver, Grid> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private final Duration timeout;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param limits  concurrency limit per provider, iteration order is the spill over order
+     * @param timeout maximum time a session request waits in the queue
+     */
+    public GridDispatcher(Map<String, Integer> limits, Duration timeout) {
+        limits.forEach((provider, limit) -> grids.add(new Grid(provider, limit)));
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a session on the first provider with free capacity, moving on to the next provider when the
+     * session cannot be created there.
+     *
+     * @param factory creates a session on a provider
+     * @return session, bound to its provider
+     * @throws IllegalStateException when the session could not be created on any provider
+     * @throws TimeoutException      when no slot was freed within the timeout
+     * @throws InterruptedException  when interrupted while queued
+     */
+    public WebDriver dispatch(SessionFactory factory) throws TimeoutException, InterruptedException {
+        List<String> failed = new ArrayList<>();
+        while (true) {
+            String provider = lease(failed);
+            try {
+                WebDriver driver = factory.create(provider);
+                if (driver != null) {
+                    bind(driver, provider);
+                    return driver;
+                }
+            } catch (Exception e) {
+                log.error("Session creation on {} grid failed: {}", provider, e.getMessage());
+            }
+            release(provider);
+            failed.add(provider);
+        }
+    }
+
+    /**
+     * Reserves a slot on the first provider with free capacity.
+     *
+     * @param excluded providers that must not be used, e.g. because session creation failed on them
+     * @return provider name
+     * @throws TimeoutException     when no slot was freed within the timeout
+     * @throws InterruptedException when interrupted while queued
+     */
+    public String lease(Collection<String> excluded) throws TimeoutException, InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                boolean candidates = false;
+                for (Grid grid : grids) {
+                    if (excluded.contains(grid.provider)) {
+                        continue;
+                    }
+                    candidates = true;
+                    if (grid.inFlight < grid.limit) {
+                        grid.inFlight++;
+                        log.info("Dispatching session to {} grid ({}/{})", grid.provider, grid.inFlight, grid.limit);
+                        return grid.provider;
+                    }
+                }
+                if (!candidates) {
+                    throw new IllegalStateException("No grid provider left to dispatch the session to");
+                }
+                if (remaining <= 0) {
+                    throw new TimeoutException("All grids saturated for " + timeout);
+                }
+                log.info("All grids saturated, session request queued");
+                remaining = released.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associates a session with the provider it was leased from, the slot is freed by {@link #release(WebDriver)}.
+     *
+     * @param driver   session created on the provider
+     * @param provider provider name returned by {@link #lease(Collection)}
+     */
+    public void bind(WebDriver driver, String provider) {
+        grids.stream().filter(grid -> grid.provider.equals(provider)).findFirst()
+                .ifPresent(grid -> sessions.put(driver, grid));
+    }
+
+    /**
+     * Frees the slot held by a session. Sessions not created through the dispatcher are ignored.
+     *
+     * @param driver session
+     */
+    public void release(WebDriver driver) {
+        Grid grid = sessions.remove(driver);
+        if (grid != null) {
+            release(grid.provider);
+        }
+    }
+
+    /**
+     * Frees a slot of the provider.
+     *
+     * @param provider provider name
+     */
+    public void release(String provider) {
+        lock.lock();
+        try {
+            for (Grid grid : grids) {
+                if (grid.provider.equals(provider) && grid.inFlight > 0) {
+                    grid.inFlight--;
+                    released.signalAll();
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the provider a session was dispatched to.
+     *
+     * @param driver session
+     * @return provider name, null for sessions not created through the dispatcher
+     */
+    public String provider(WebDriver driver) {
+        Grid grid = sessions.get(driver);
+        return grid == null ? null : grid.provider;
+    }
+
+    /**
+     * Returns the number of sessions in flight on a provider.
+     *
+     * @param provider provider name
+     * @return sessions in flight
+     */
+    public int inFlight(String provider) {
+        lock.lock();
+        try {
+            return grids.stream().filter(grid -> grid.provider.equals(provider))
+                    .mapToInt(grid -> grid.inFlight).findFirst().orElse(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates a session on a grid provider.
+     */
+    @FunctionalInterface
+    public interface SessionFactory {
+        WebDriver create(String provider) throws Exception;
+    }
+
+    private static final class Grid {
+        private final String provider;
+        private final int limit;
+        private int inFlight;
+
+        private Grid(String provider, int limit) {
+            this.provider = provider;
+            this.limit = limit;
+        }
+    }
+}
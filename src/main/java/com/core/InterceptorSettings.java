@@ -0,0 +1,59 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import com.config.AppConfig;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Network interceptor settings.
+ *
+ * @param enabled       attach the interceptor to Chromium sessions
+ * @param blocked       resource classes answered with an empty response
+ * @param maxImageBytes images larger than this are blocked once they have been seen, 0 keeps all images
+ * @param cache         directory of the asset cache shared by all sessions
+ * @param revalidate    ask the server with If-None-Match before serving a cached asset
+ * @author Dipjyoti Metia
+ */
+public record InterceptorSettings(boolean enabled, Set<ResourceClass> blocked, long maxImageBytes, Path cache, boolean revalidate) {
+
+    /**
+     * Reads the settings of the network block in application.conf.
+     *
+     * @param config application config
+     * @return settings
+     */
+    public static InterceptorSettings of(AppConfig config) {
+        Set<ResourceClass> blocked = EnumSet.noneOf(ResourceClass.class);
+        config.getNetworkBlock().forEach(name -> blocked.add(ResourceClass.of(name)));
+        return new InterceptorSettings(config.isNetworkInterceptEnabled(), blocked, config.getNetworkMaxImageBytes(),
+                Paths.get(config.getNetworkCacheDir()), config.isNetworkCacheRevalidate());
+    }
+}
@@ -0,0 +1,384 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LocatorCache remembers located elements of a session so repeated lookups cost no round trip.
+ * <p>
+ * Elements are cached per locator and frame context and handed out as {@link CachedWebElement}, which
+ * locates its element again when the browser reports it stale. Navigations start a new page generation:
+ * cached elements of an older generation locate themselves again on their next use. Frame and window
+ * switches change the frame context, so the same locator inside another frame is a different entry.
+ * <p>
+ * Page binders generated from locator annotations bind page fields with {@link #element(By)} and
+ * {@link #elements(By)}. The cache also serves page objects as {@link ElementLocatorFactory} for PageFactory.
+ * Web sessions are wrapped with {@link #decorate(WebDriver, WebDriverListener...)}, which registers the cache as
+ * {@link WebDriverListener} of the session, so navigations and switches made directly on the driver reach it.
+ * Lists are located again on every use, only their elements are cached.
+ * <p>
+ * A cache holds its session, so it stays registered until {@link #release(WebDriver)} drops it when the
+ * session ends.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class LocatorCache implements ElementLocatorFactory, WebDriverListener {
+    private static final Map<WebDriver, LocatorCache> caches = new ConcurrentHashMap<>();
+
+    private final Map<Key, CachedWebElement> elements = new ConcurrentHashMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final List<String> frames = new ArrayList<>();
+    private volatile String context = "/";
+    private String window = "";
+    private WebDriver driver;
+
+    private LocatorCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Wraps a session in an EventFiringDecorator with its cache as listener, the cache locates elements through
+     * the decorated session so the other listeners see the element calls too.
+     *
+     * @param driver    session
+     * @param listeners further listeners of the session
+     * @return decorated session, {@link #of(WebDriver)} returns the listening cache for it
+     */
+    public static WebDriver decorate(WebDriver driver, WebDriverListener... listeners) {
+        LocatorCache cache = new LocatorCache(null);
+        WebDriverListener[] all = Arrays.copyOf(listeners, listeners.length + 1);
+        all[listeners.length] = cache;
+        WebDriver decorated = new EventFiringDecorator<>(all).decorate(driver);
+        cache.driver = decorated;
+        caches.put(decorated, cache);
+        return decorated;
+    }
+
+    /**
+     * Returns the cache of a session.
+     *
+     * @param driver session
+     * @return cache
+     */
+    public static LocatorCache of(WebDriver driver) {
+        return caches.computeIfAbsent(driver, LocatorCache::new);
+    }
+
+    /**
+     * Drops the cache of a session and logs its counters, must be called when the session ends.
+     *
+     * @param driver session
+     */
+    public static void release(WebDriver driver) {
+        LocatorCache cache = caches.remove(driver);
+        if (cache != null && cache.hits.get() + cache.misses.get() > 0) {
+            log.info("Locator cache: {} hits, {} misses, {} stale elements located again", cache.getHits(), cache.getMisses(), cache.getStale());
+        }
+    }
+
+    /**
+     * Returns the element of a locator in the current frame context.
+     *
+     * @param by locator
+     * @return cached element
+     */
+    public WebElement find(By by) {
+        Key key = new Key(context, by);
+        CachedWebElement cached = elements.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        CachedWebElement element = new CachedWebElement(this, by, -1, driver.findElement(by));
+        misses.incrementAndGet();
+        elements.put(key, element);
+        return element;
+    }
+
+    /**
+     * Returns the elements of a locator in the current frame context. The list is located on every call,
+     * elements added or removed by the page show up at once.
+     *
+     * @param by locator
+     * @return elements, each located again by its index when it turns stale
+     */
+    public List<WebElement> findAll(By by) {
+        List<WebElement> found = driver.findElements(by);
+        misses.incrementAndGet();
+        List<WebElement> wrapped = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size(); i++) {
+            wrapped.add(new CachedWebElement(this, by, i, found.get(i)));
+        }
+        return wrapped;
+    }
+
+    /**
+     * Returns a page element bound to a locator, looked up in the cache on every use.
+     *
+     * @param by locator
+     * @return page element
+     */
+    public WebElement element(By by) {
+        return new PageElement(this, by);
+    }
+
+    /**
+     * Returns a list of page elements bound to a locator, located on every use like a PageFactory list.
+     *
+     * @param by locator
+     * @return page elements
+     */
+    public List<WebElement> elements(By by) {
+        return new AbstractList<>() {
+            @Override
+            public WebElement get(int index) {
+                return findAll(by).get(index);
+            }
+
+            @Override
+            public int size() {
+                return findAll(by).size();
+            }
+
+            @Override
+            public Iterator<WebElement> iterator() {
+                return findAll(by).iterator();
+            }
+        };
+    }
+
+    /**
+     * @return whether the session automates an iOS device
+     */
+    public boolean isIos() {
+        return driver instanceof HasCapabilities session && session.getCapabilities().getPlatformName() == Platform.IOS;
+    }
+
+    /**
+     * Starts a new page generation, cached elements locate themselves again on their next use.
+     */
+    public void navigated() {
+        generation.incrementAndGet();
+        elements.clear();
+    }
+
+    /**
+     * Records a switch into a child frame.
+     *
+     * @param frame frame index, name or element
+     */
+    public synchronized void frameSelected(Object frame) {
+        frames.add(frame instanceof WebElement element ? frameId(element) : String.valueOf(frame));
+        updateContext();
+    }
+
+    /**
+     * Records a switch to the parent frame.
+     */
+    public synchronized void parentFrameSelected() {
+        if (!frames.isEmpty()) {
+            frames.remove(frames.size() - 1);
+        }
+        updateContext();
+    }
+
+    /**
+     * Records a switch to the top level document.
+     */
+    public synchronized void defaultContentSelected() {
+        frames.clear();
+        updateContext();
+    }
+
+    /**
+     * Records a switch to another window or tab.
+     *
+     * @param handle window handle, null when unknown
+     */
+    public synchronized void windowSelected(String handle) {
+        window = handle == null ? String.valueOf(System.nanoTime()) : handle;
+        frames.clear();
+        updateContext();
+    }
+
+    /**
+     * @return lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return lookups sent to the browser
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return cached elements located again because they were stale or from an older page
+     */
+    public long getStale() {
+        return stale.get();
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        By by = new Annotations(field).buildBy();
+        return new ElementLocator() {
+            @Override
+            public WebElement findElement() {
+                return find(by);
+            }
+
+            @Override
+            public List<WebElement> findElements() {
+                return findAll(by);
+            }
+        };
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        navigated();
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, String url) {
+        navigated();
+    }
+
+    @Override
+    public void afterTo(WebDriver.Navigation navigation, URL url) {
+        navigated();
+    }
+
+    @Override
+    public void afterBack(WebDriver.Navigation navigation) {
+        navigated();
+    }
+
+    @Override
+    public void afterForward(WebDriver.Navigation navigation) {
+        navigated();
+    }
+
+    @Override
+    public void afterRefresh(WebDriver.Navigation navigation) {
+        navigated();
+    }
+
+    @Override
+    public void afterFrame(WebDriver.TargetLocator targetLocator, int index, WebDriver driver) {
+        frameSelected(index);
+    }
+
+    @Override
+    public void afterFrame(WebDriver.TargetLocator targetLocator, String nameOrId, WebDriver driver) {
+        frameSelected(nameOrId);
+    }
+
+    @Override
+    public void afterFrame(WebDriver.TargetLocator targetLocator, WebElement frameElement, WebDriver driver) {
+        frameSelected(frameElement);
+    }
+
+    @Override
+    public void afterParentFrame(WebDriver.TargetLocator targetLocator, WebDriver driver) {
+        parentFrameSelected();
+    }
+
+    @Override
+    public void afterDefaultContent(WebDriver.TargetLocator targetLocator, WebDriver driver) {
+        defaultContentSelected();
+    }
+
+    @Override
+    public void afterWindow(WebDriver.TargetLocator targetLocator, String nameOrHandle, WebDriver driver) {
+        windowSelected(nameOrHandle);
+    }
+
+    int generation() {
+        return generation.get();
+    }
+
+    WebElement locate(By by, int index) {
+        stale.incrementAndGet();
+        if (index < 0) {
+            return driver.findElement(by);
+        }
+        List<WebElement> found = driver.findElements(by);
+        if (index >= found.size()) {
+            throw new NoSuchElementException("Element " + index + " of " + by + " is gone");
+        }
+        return found.get(index);
+    }
+
+    private void updateContext() {
+        context = window + "/" + String.join("/", frames);
+    }
+
+    private static String frameId(WebElement element) {
+        WebElement target = element;
+        while (target instanceof WrapsElement wrapper && !(target instanceof RemoteWebElement)) {
+            target = wrapper.getWrappedElement();
+        }
+        return target instanceof RemoteWebElement remote ? remote.getId() : String.valueOf(System.identityHashCode(element));
+    }
+
+    private record Key(String context, By by) {
+    }
+}
@@ -24,9 +24,10 @@ SOFTWARE.
 
 package com.core;
 
-import com.csvreader.CsvReader;
-import com.csvreader.CsvWriter;
 import com.google.common.collect.Ordering;
+import com.reporting.evidence.Evidence;
+import com.reporting.evidence.EvidenceSettings;
+import com.utils.TestDataStore;
 import io.appium.java_client.AppiumFluentWait;
 import io.appium.java_client.android.*;
 import io.appium.java_client.android.connection.ConnectionState;
@@ -38,10 +39,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.RandomStringUtils;
-import org.apache.poi.util.Units;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.json.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -50,6 +47,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
+import org.w3c.dom.Element;
 
 import java.io.*;
 import java.lang.reflect.Field;
@@ -70,9 +68,41 @@ import java.util.function.Function;
 @Slf4j
 public class MobileActions extends DriverManager {
     private static final Faker faker = new Faker();
-    private static String datetimeabc = null;
-    private static int counter = 0;
-    private final Map<Object, Object> dicttoread = new HashMap<>();
+    private boolean snapshotMode;
+    private PageSnapshot snapshot;
+    private long snapshotChanges;
+
+    /**
+     * Snapshot mode, page source checks are answered from one fetched page source until the next command
+     * of the session. Sessions not created with a {@link ScreenChangeExecutor} fetch the page source for every check.
+     *
+     * @param enabled enabled
+     */
+    protected void setSnapshotMode(boolean enabled) {
+        snapshotMode = enabled;
+        snapshot = null;
+    }
+
+    /**
+     * Discards the page snapshot, for waits that let the screen change without sending a command
+     */
+    protected void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    /**
+     * Current page snapshot, fetched again after any command other than reading the page source
+     *
+     * @return snapshot
+     */
+    private PageSnapshot snapshot() {
+        long changes = ScreenChangeExecutor.changes(driverThread);
+        if (snapshot == null || changes < 0 || changes != snapshotChanges) {
+            snapshot = PageSnapshot.parse(driverThread.getPageSource());
+            snapshotChanges = changes;
+        }
+        return snapshot;
+    }
 
     /**
      * Capture screenshot
@@ -236,10 +266,10 @@ public class MobileActions extends DriverManager {
     private WebElement getMobileElement(String mobileElement, MobileBy mobileBy) throws Exception {
         WebElement element = null;
         switch (mobileBy) {
-            case XPATH -> element = driverThread.findElement(By.xpath(mobileElement));
-            case ID -> element = driverThread.findElement(By.id(mobileElement));
-            case NAME -> element = driverThread.findElement(By.name(mobileElement));
-            case CLASS -> element = driverThread.findElement(By.className(mobileElement));
+            case XPATH -> element = LocatorCache.of(driverThread).find(By.xpath(mobileElement));
+            case ID -> element = LocatorCache.of(driverThread).find(By.id(mobileElement));
+            case NAME -> element = LocatorCache.of(driverThread).find(By.name(mobileElement));
+            case CLASS -> element = LocatorCache.of(driverThread).find(By.className(mobileElement));
             default -> log.info("Element type not found");
         }
         if (element == null) {
@@ -321,6 +351,11 @@ public class MobileActions extends DriverManager {
      * @return boolean
      */
     protected boolean isExist(String element, MobileBy elementType) {
+        if (snapshotMode) {
+            boolean exists = !snapshot().find(element, elementType).isEmpty();
+            log.info(element + (exists ? ": element is exists" : ": element does not exist"));
+            return exists;
+        }
         boolean returnValue = false;
         switch (elementType) {
             case XPATH:
@@ -369,6 +404,9 @@ public class MobileActions extends DriverManager {
      * @return pageSource
      */
     public String getPageSource() {
+        if (snapshotMode) {
+            return snapshot().getSource();
+        }
         return driverThread.getPageSource();
     }
 
@@ -390,6 +428,13 @@ public class MobileActions extends DriverManager {
      * @return text
      */
     public String getTextContent(String containText) {
+        if (snapshotMode) {
+            List<Element> elements = snapshot().xpath("//*[contains(text(),'" + containText + "')]");
+            if (elements.isEmpty()) {
+                throw new org.openqa.selenium.NoSuchElementException("No element contains text " + containText);
+            }
+            return PageSnapshot.text(elements.get(0));
+        }
         return driverThread.findElement(By.xpath("//*[contains(text(),'" + containText + "')]")).getText();
     }
 
@@ -400,7 +445,7 @@ public class MobileActions extends DriverManager {
      * @return boolean
      */
     public boolean isTextPresent(String containsText) {
-        if (driverThread.getPageSource().contains(containsText)) {
+        if (getPageSource().contains(containsText)) {
             return true;
         } else {
             log.error("Text is not present");
@@ -605,6 +650,7 @@ public class MobileActions extends DriverManager {
      * @param time time
      */
     protected void sleep(int time) {
+        invalidateSnapshot();
         try {
             Thread.sleep(time);
         } catch (Exception e) {
@@ -774,32 +820,7 @@ public class MobileActions extends DriverManager {
      * @return fieldValue
      */
     protected String getData(String t_testcaseName, String t_fieldName, int t_instance) {
-        try {
-            int flag = 0;
-            CsvReader csvreaderobj = new CsvReader("input/DataSheet.csv");
-            csvreaderobj.readHeaders();
-            while (csvreaderobj.readRecord()) {
-                String p_testcaseName = csvreaderobj.get("TestcaseName").trim();
-                String p_testcaseInstance = csvreaderobj.get("TestcaseInstance").trim();
-                if ((t_testcaseName.equalsIgnoreCase(p_testcaseName)) && (t_instance == Integer.parseInt(p_testcaseInstance))) {
-                    for (int i = 0; i < csvreaderobj.getColumnCount() / 2 + 1; i++) {
-                        String p_field = csvreaderobj.get("Field" + i).trim();
-                        String p_objectProperty = csvreaderobj.get("Value" + i).trim();
-                        dicttoread.put(p_field, p_objectProperty);
-                    }
-                    flag = 0;
-                    break;
-                } else {
-                    flag = 1;
-                }
-            }
-            if (flag == 1) {
-                log.info("Not data present for testname" + t_testcaseName);
-            }
-        } catch (IOException ef) {
-            log.error(ef.getMessage());
-        }
-        return (String) dicttoread.get(t_fieldName);
+        return TestDataStore.of("input/DataSheet.csv").get(t_testcaseName, t_fieldName, t_instance);
     }
 
     /**
@@ -846,54 +867,7 @@ public class MobileActions extends DriverManager {
      * @param t_instance     instance
      */
     protected void writeData(String t_testcasename, String t_field, String t_value, int t_instance) {
-        try {
-            int flag = 0;
-            int i;
-            int P_valuenotduplicated = 0;
-            CsvWriter csvOutput = new CsvWriter(new FileWriter("input\\Datasheet1.csv", false), ',');
-            CsvReader csvobj = new CsvReader("input\\Datasheet.csv");
-            csvobj.readHeaders();
-            String FileContentPerRow = csvobj.getRawRecord();
-            csvOutput.writeRecord(FileContentPerRow.split(","));
-            while (csvobj.readRecord()) {
-                FileContentPerRow = csvobj.getRawRecord();
-                String p_testcaseName = csvobj.get("TestcaseName").trim();
-                String p_testcaseInstance = csvobj.get("TestcaseInstance").trim();
-                if (t_testcasename.equalsIgnoreCase(p_testcaseName) && (t_instance == Integer.parseInt(p_testcaseInstance))) {
-                    for (i = 1; i < csvobj.getColumnCount() / 2 + 1; i++) {
-                        String p_filed = csvobj.get("Field" + i).trim();
-                        if (p_filed.equalsIgnoreCase(t_field)) {
-                            String p_field1 = csvobj.get("Value" + i).trim();
-                            dicttoread.put(t_field, t_value);
-                            log.info("value for the field: " + t_field + " is updated to: " + t_value + " Successfully");
-                            String stp = CsvWriter.replace(FileContentPerRow, t_field + "," + p_field1, t_field + "," + t_value);
-                            log.info(stp);
-                            FileContentPerRow = stp;
-                            P_valuenotduplicated = 1;
-                        }
-                    }
-                    if (P_valuenotduplicated == 0) {
-                        String p_field1 = csvobj.get("Value" + (i - 1)).trim();
-                        dicttoread.put(t_field, t_value);
-                        String stp1 = CsvWriter.replace(FileContentPerRow, p_field1, p_field1 + "," + t_field + "," + t_value);
-                        log.info(stp1);
-                        FileContentPerRow = stp1;
-                        log.info("New Field: " + t_field + " is added successfully with value: " + t_value);
-                    }
-                    flag = 1;
-                }
-                csvOutput.writeRecord(FileContentPerRow.split(","));
-            }
-            csvOutput.flush();
-            csvOutput.close();
-            csvobj.close();
-            renameCsvFile("input\\Datasheet1.csv", "input\\Datasheet.csv");
-            if (flag == 0) {
-                log.info("No data present for the testname");
-            }
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        TestDataStore.of("input/DataSheet.csv").put(t_testcasename, t_field, t_value, t_instance);
     }
 
     /**
@@ -929,34 +903,6 @@ public class MobileActions extends DriverManager {
         }
     }
 
-    /**
-     * Rename csv file
-     *
-     * @param source sourceFile
-     * @param dest   destinationFile
-     */
-    private boolean renameCsvFile(String source, String dest) {
-        boolean b = false;
-        try {
-            boolean b1 = false;
-            File file1 = new File(dest);
-            System.gc();
-            file1.setWritable(true);
-            Thread.sleep(500);
-            if (file1.exists()) {
-                b1 = file1.delete();
-            }
-            Thread.sleep(500);
-            log.info(String.valueOf(b1));
-            File file = new File(source);
-            b = file.renameTo(new File(dest));
-            log.info(String.valueOf(b));
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
-        return b;
-    }
-
     /**
      * Capture image
      *
@@ -964,76 +910,20 @@ public class MobileActions extends DriverManager {
      */
     public void captureImage(String p_testcaseName) {
         try {
-            counter = counter + 1;
-            File src = ((TakesScreenshot) driverThread).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(src, new File(("ScreensDoc\\" + p_testcaseName + "\\" + datetimeabc + "\\" + counter + ".png")));
+            byte[] png = ((TakesScreenshot) driverThread).getScreenshotAs(OutputType.BYTES);
+            Evidence.capture(p_testcaseName, png, EvidenceSettings.of(appConfig));
         } catch (Exception e) {
             log.error("Capture screenShot failed", e);
         }
     }
 
     /**
-     * Create image doc
+     * Create image doc, completes the evidence document with the captured screenshots
      *
      * @param p_testcaseName1 testcaseName
      */
     protected void createImageDoc(String p_testcaseName1) {
-        try (XWPFDocument doc = new XWPFDocument()) {
-            XWPFParagraph p = doc.createParagraph();
-            XWPFRun r = p.createRun();
-            for (int i = 1; i <= counter; i++) {
-                String path = "ScreensDoc\\" + p_testcaseName1 + "\\" + datetimeabc + "\\" + i + ".png";
-                try (FileInputStream pic = new FileInputStream(path)) {
-                    r.addBreak();
-                    r.addCarriageReturn();
-                    r.addPicture(pic, XWPFDocument.PICTURE_TYPE_PNG, "ScreensDoc\\" + p_testcaseName1 + "\\" +
-                            datetimeabc + "\\" + i + ".png", Units.toEMU(300), Units.toEMU(400));
-                    FileOutputStream out = new FileOutputStream("ScreensDoc\\" + p_testcaseName1 + "\\" + datetimeabc + "\\" + p_testcaseName1 + ".docx");
-                    doc.write(out);
-                    pic.close();
-                    out.close();
-                } catch (IOException io) {
-                    log.error(io.getMessage());
-                }
-            }
-            for (int i = 1; i <= counter; i++) {
-                File src1 = new File("ScreensDoc\\" + p_testcaseName1 + "\\" + datetimeabc + "\\" + i + ".png");
-                deleteDir(src1);
-            }
-            counter = 0;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
-    }
-
-    /**
-     * Delete dir
-     *
-     * @param file fileName
-     */
-    private void deleteDir(File file) {
-        File[] contents = file.listFiles();
-        if (contents != null) {
-            for (File f : contents) {
-                f.delete();
-            }
-        }
-        file.delete();
-    }
-
-    /**
-     * System date format
-     */
-    protected void systemDateFormat() {
-        String abc1 = null;
-        try {
-            DateFormat date = new SimpleDateFormat("yyyy.MM.dd_hh.mm");
-            Date date1 = new Date();
-            abc1 = date.format(date1);
-            datetimeabc = "Run_" + abc1;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        Evidence.finish(p_testcaseName1);
     }
 
     /**
@@ -1053,7 +943,6 @@ public class MobileActions extends DriverManager {
     }
 
     protected void catchBlock(Exception e) {
-        counter = 0;
         log.error("Error Description", e);
         Assert.fail("TestCase Failed", e);
     }
@@ -232,12 +232,22 @@ abstract class MobileOptions {
      * @return DriverService instance.
      */
     public AppiumDriverLocalService createAppiumService() {
-        log.info("Creating Appium service");
+        return createAppiumService(4723);
+    }
+
+    /**
+     * Creates an Appium driver service on the given port.
+     *
+     * @param port Appium server port.
+     * @return DriverService instance.
+     */
+    public AppiumDriverLocalService createAppiumService(int port) {
+        log.info("Creating Appium service on port {}", port);
         return new AppiumServiceBuilder().
                 usingDriverExecutable(new File(nodeJS)).
                 withAppiumJS(new File(appiumJS)).
                 withIPAddress(serverIp)
-                .usingPort(4723)
+                .usingPort(port)
                 .withArgument(() -> "--log")
                 .build();
     }
@@ -0,0 +1,163 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * PageReadiness waits until a page has settled with a single asynchronous script.
+ * <p>
+ * The script checks the document ready state, pending jQuery ajax calls, AngularJS $http requests,
+ * Angular testabilities and the fetch/XHR requests started since the probe was first installed in the page.
+ * It resolves once everything is idle and two animation frames have been painted, so a page costs one
+ * round trip per slice instead of several executeScript calls per poll.
+ * <p>
+ * Requests open longer than the maximum request age are not waited for, so long polls, streamed responses
+ * and server-sent events over fetch do not keep a page busy forever. The request check can be switched off
+ * in the readiness block of application.conf. A slice interrupted by a navigation, which unloads the document
+ * the script runs in, or cut short by the driver's script timeout is probed again until the deadline.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class PageReadiness {
+    private static final long SLICE_MILLIS = 5_000;
+    private static final Duration DEFAULT_REQUEST_AGE = Duration.ofSeconds(2);
+    private static final String READINESS_SCRIPT = """
+            var slice = arguments[0], network = arguments[1], maxAge = arguments[2], done = arguments[arguments.length - 1];
+            if (network && !window.__pageReadiness) {
+              var tracker = window.__pageReadiness = {requests: {}, next: 0};
+              var start = function () { var id = ++tracker.next; tracker.requests[id] = Date.now(); return id; };
+              var end = function (id) { delete tracker.requests[id]; };
+              if (window.fetch) {
+                var fetch = window.fetch;
+                window.fetch = function () {
+                  var id = start();
+                  return fetch.apply(this, arguments).finally(function () { end(id); });
+                };
+              }
+              var send = XMLHttpRequest.prototype.send;
+              XMLHttpRequest.prototype.send = function () {
+                var id = start();
+                this.addEventListener('loadend', function () { end(id); }, {once: true});
+                return send.apply(this, arguments);
+              };
+            }
+            function pending() {
+              if (!network || !window.__pageReadiness) { return 0; }
+              var now = Date.now(), requests = window.__pageReadiness.requests, count = 0;
+              for (var id in requests) { if (now - requests[id] < maxAge) { count++; } }
+              return count;
+            }
+            function state() {
+              var jquery = window.jQuery ? window.jQuery.active : 0;
+              var angular = 0;
+              if (window.getAllAngularTestabilities) {
+                angular = window.getAllAngularTestabilities().filter(function (t) { return !t.isStable(); }).length;
+              } else if (window.angular && window.angular.element(document).injector()) {
+                angular = window.angular.element(document).injector().get('$http').pendingRequests.length;
+              }
+              return {readyState: document.readyState, jquery: jquery, angular: angular, network: pending()};
+            }
+            function idle(s) {
+              return s.readyState === 'complete' && s.jquery === 0 && s.angular === 0 && s.network <= 0;
+            }
+            function frame(callback) {
+              var fired = false;
+              function once() { if (!fired) { fired = true; callback(); } }
+              requestAnimationFrame(once);
+              setTimeout(once, 100);
+            }
+            var deadline = Date.now() + slice;
+            (function probe() {
+              var s = state();
+              if (idle(s)) {
+                frame(function () { frame(function () {
+                  var settled = state();
+                  settled.ready = idle(settled);
+                  if (settled.ready || Date.now() >= deadline) { done(settled); } else { probe(); }
+                }); });
+              } else if (Date.now() >= deadline) {
+                s.ready = false;
+                done(s);
+              } else {
+                setTimeout(probe, 50);
+              }
+            })();
+            """;
+
+    private PageReadiness() {
+    }
+
+    /**
+     * Waits until the page is ready, fetch/XHR requests open for less than two seconds are waited for.
+     *
+     * @param driver  driver
+     * @param timeout maximum time to wait
+     * @throws TimeoutException when the page is still busy after the timeout
+     */
+    public static void await(WebDriver driver, Duration timeout) {
+        await(driver, timeout, true, DEFAULT_REQUEST_AGE);
+    }
+
+    /**
+     * Waits until the page is ready.
+     *
+     * @param driver        driver
+     * @param timeout       maximum time to wait
+     * @param network       wait for pending fetch/XHR requests
+     * @param maxRequestAge requests open longer than this are not waited for
+     * @throws TimeoutException when the page is still busy after the timeout
+     */
+    public static void await(WebDriver driver, Duration timeout, boolean network, Duration maxRequestAge) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Object state = null;
+        do {
+            long remaining = Math.max(1, Duration.ofNanos(deadline - System.nanoTime()).toMillis());
+            try {
+                state = ((JavascriptExecutor) driver).executeAsyncScript(READINESS_SCRIPT, Math.min(remaining, SLICE_MILLIS),
+                        network, maxRequestAge.toMillis());
+            } catch (JavascriptException | ScriptTimeoutException e) {
+                // e.g. "document unloaded while waiting for result" after a click that navigates
+                log.debug("Readiness probe interrupted, probing again: {}", e.getMessage());
+                state = e.getClass().getSimpleName();
+                continue;
+            }
+            if (state instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get("ready"))) {
+                log.info("Page is ready");
+                return;
+            }
+        } while (System.nanoTime() < deadline);
+        throw new TimeoutException("Page not ready after " + timeout + ": " + state);
+    }
+}
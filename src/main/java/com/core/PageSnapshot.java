@@ -0,0 +1,207 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PageSnapshot is a parsed copy of an Appium page source that answers element queries locally.
+ * <p>
+ * Elements are indexed by resource-id / accessibility name, class and text when the snapshot is built,
+ * XPath queries are evaluated against the same XML the Appium server would use. A snapshot describes the
+ * screen at the time the source was fetched, it must be discarded after any action on the device.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class PageSnapshot {
+    private static final String[] CLASS_ATTRIBUTES = {"class", "type"};
+    private static final String[] TEXT_ATTRIBUTES = {"text", "label", "value", "content-desc"};
+    private static final Map<String, XPathExpression> expressions = new ConcurrentHashMap<>();
+    private final String source;
+    private final Document document;
+    private final Map<String, List<Element>> ids = new HashMap<>();
+    private final Map<String, List<Element>> accessibilityIds = new HashMap<>();
+    private final Map<String, List<Element>> classes = new HashMap<>();
+    private final Map<String, List<Element>> texts = new HashMap<>();
+
+    private PageSnapshot(String source, Document document) {
+        this.source = source;
+        this.document = document;
+        NodeList nodes = document.getElementsByTagName("*");
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Element element = (Element) nodes.item(i);
+            String resourceId = element.getAttribute("resource-id");
+            if (!resourceId.isEmpty()) {
+                index(ids, resourceId, element);
+                int separator = resourceId.indexOf(":id/");
+                if (separator > 0) {
+                    index(ids, resourceId.substring(separator + 4), element);
+                }
+            }
+            index(ids, element.getAttribute("name"), element);
+            index(accessibilityIds, element.getAttribute("content-desc"), element);
+            index(accessibilityIds, element.getAttribute("name"), element);
+            index(classes, element.getTagName(), element);
+            for (String attribute : CLASS_ATTRIBUTES) {
+                if (!element.getAttribute(attribute).equals(element.getTagName())) {
+                    index(classes, element.getAttribute(attribute), element);
+                }
+            }
+            for (String attribute : TEXT_ATTRIBUTES) {
+                index(texts, element.getAttribute(attribute), element);
+            }
+        }
+    }
+
+    /**
+     * Parses a page source.
+     *
+     * @param source Appium page source XML
+     * @return snapshot
+     */
+    public static PageSnapshot parse(String source) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(source)));
+            return new PageSnapshot(source, document);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new IllegalArgumentException("Page source is not valid XML", e);
+        }
+    }
+
+    /**
+     * Returns the page source the snapshot was built from.
+     *
+     * @return page source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the elements matching a locator.
+     *
+     * @param value       locator value
+     * @param elementType locator type
+     * @return matching elements, in document order
+     */
+    public List<Element> find(String value, MobileActions.MobileBy elementType) {
+        return switch (elementType) {
+            case XPATH -> xpath(value);
+            case ID, NAME -> ids.getOrDefault(value, List.of());
+            case ACCESS_ID -> accessibilityIds.getOrDefault(value, List.of());
+            case CLASS -> classes.getOrDefault(value, List.of());
+        };
+    }
+
+    /**
+     * Returns the elements with the given text in one of their text attributes.
+     *
+     * @param text text
+     * @return matching elements, in document order
+     */
+    public List<Element> findByText(String text) {
+        return texts.getOrDefault(text, List.of());
+    }
+
+    /**
+     * Evaluates an XPath query.
+     *
+     * @param xpath XPath expression
+     * @return matching elements, in document order
+     */
+    public List<Element> xpath(String xpath) {
+        try {
+            XPathExpression expression = expressions.computeIfAbsent(xpath, PageSnapshot::compile);
+            NodeList nodes;
+            synchronized (expression) {
+                nodes = (NodeList) expression.evaluate(document, XPathConstants.NODESET);
+            }
+            List<Element> elements = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element element) {
+                    elements.add(element);
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid xpath " + xpath, e);
+        }
+    }
+
+    /**
+     * Returns the text of an element the way the Appium drivers report it.
+     *
+     * @param element element
+     * @return text
+     */
+    public static String text(Element element) {
+        for (String attribute : TEXT_ATTRIBUTES) {
+            if (element.hasAttribute(attribute) && !element.getAttribute(attribute).isEmpty()) {
+                return element.getAttribute(attribute);
+            }
+        }
+        return element.getTextContent();
+    }
+
+    private static XPathExpression compile(String xpath) {
+        try {
+            return XPathFactory.newInstance().newXPath().compile(xpath);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid xpath " + xpath, e);
+        }
+    }
+
+    private static void index(Map<String, List<Element>> index, String key, Element element) {
+        if (key != null && !key.isEmpty()) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(element);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.FrameLocator;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.options.Cookie;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.Assert;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * PlaywrightActions provides the WebActions operations on top of a Playwright session.
+ * <p>
+ * Elements are addressed with Playwright selectors (css, xpath=, text=) instead of WebElements.
+ * Playwright waits for actionability before every action, so no explicit waits are needed before
+ * click or enter. Select it per suite with the "playwright" test type.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public class PlaywrightActions extends DriverManager {
+    private static final double TIMEOUT = 30_000;
+    private final Deque<String> frames = new ArrayDeque<>();
+
+    /**
+     * Navigate
+     *
+     * @param url url
+     */
+    protected void navigate(String url) {
+        frames.clear();
+        page.navigate(url);
+    }
+
+    /**
+     * Locator for a selector inside the current frame
+     *
+     * @param selector selector
+     * @return locator
+     */
+    protected Locator locator(String selector) {
+        if (frames.isEmpty()) {
+            return page.locator(selector);
+        }
+        FrameLocator frame = null;
+        for (String frameSelector : frames) {
+            frame = frame == null ? page.frameLocator(frameSelector) : frame.frameLocator(frameSelector);
+        }
+        return frame.locator(selector);
+    }
+
+    /**
+     * Click
+     *
+     * @param selector selector
+     */
+    protected void click(String selector) {
+        locator(selector).click();
+    }
+
+    /**
+     * Double Click
+     *
+     * @param selector selector
+     */
+    protected void doubleClick(String selector) {
+        locator(selector).dblclick();
+    }
+
+    /**
+     * Mouse over
+     *
+     * @param selector selector
+     */
+    protected void mouseOver(String selector) {
+        locator(selector).hover();
+    }
+
+    /**
+     * Enter
+     *
+     * @param selector selector
+     * @param value    value
+     */
+    protected void enter(String selector, String value) {
+        locator(selector).fill(value);
+    }
+
+    /**
+     * This method clear the present field value
+     *
+     * @param selector selector
+     */
+    protected void clear(String selector) {
+        locator(selector).clear();
+    }
+
+    /**
+     * This method return inner text from element
+     *
+     * @param selector selector
+     * @return Inner Text
+     */
+    protected String getText(String selector) {
+        return locator(selector).innerText();
+    }
+
+    /**
+     * WaitForElement
+     *
+     * @param selector selector
+     */
+    protected void waitForElement(String selector) {
+        locator(selector).first().waitFor(new Locator.WaitForOptions()
+                .setState(WaitForSelectorState.VISIBLE).setTimeout(TIMEOUT));
+    }
+
+    /**
+     * WaitForElements
+     *
+     * @param selector selector matching all elements
+     */
+    protected void waitForElements(String selector) {
+        Locator elements = locator(selector);
+        elements.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE).setTimeout(TIMEOUT));
+        for (Locator element : elements.all()) {
+            element.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE).setTimeout(TIMEOUT));
+        }
+    }
+
+    /**
+     * WaitForElementToInvisible
+     *
+     * @param selector selector
+     */
+    protected void waitForElementToInvisible(String selector) {
+        locator(selector).first().waitFor(new Locator.WaitForOptions()
+                .setState(WaitForSelectorState.HIDDEN).setTimeout(TIMEOUT));
+    }
+
+    /**
+     * Is Exists
+     *
+     * @param selector selector
+     * @return boolean
+     */
+    protected boolean isExist(String selector) {
+        return locator(selector).count() > 0;
+    }
+
+    /**
+     * SwitchToFrame, following actions run inside the frame
+     *
+     * @param frameSelector frame selector
+     */
+    protected void switchToFrame(String frameSelector) {
+        frames.addLast(frameSelector);
+    }
+
+    /**
+     * SwitchToParentFrame
+     */
+    protected void switchToParentFrame() {
+        frames.pollLast();
+    }
+
+    /**
+     * Switch to default content
+     */
+    protected void switchToDefaultContent() {
+        frames.clear();
+    }
+
+    /**
+     * Accept the next alerts, Playwright handles dialogs when they open
+     */
+    protected void acceptAlert() {
+        getPlaywrightSession().setDialogAction(PlaywrightSession.DialogAction.ACCEPT);
+    }
+
+    /**
+     * Dismiss the next alerts, Playwright handles dialogs when they open
+     */
+    protected void dismissAlert() {
+        getPlaywrightSession().setDialogAction(PlaywrightSession.DialogAction.DISMISS);
+    }
+
+    /**
+     * Get Alert Text
+     *
+     * @return text of the last alert
+     */
+    protected String getAlertText() {
+        return getPlaywrightSession().getLastDialogMessage();
+    }
+
+    /**
+     * Add cookies
+     *
+     * @param key   key
+     * @param value value
+     */
+    protected void addCookie(String key, String value) {
+        page.context().addCookies(List.of(new Cookie(key, value).setUrl(page.url())));
+    }
+
+    /**
+     * Delete Cookie
+     *
+     * @param key key
+     */
+    protected void deleteCookie(String key) {
+        page.context().clearCookies(new BrowserContext.ClearCookiesOptions().setName(key));
+    }
+
+    /**
+     * Delete all cookie
+     */
+    protected void deleteAllCookie() {
+        page.context().clearCookies();
+    }
+
+    /**
+     * Get Named Cookie
+     *
+     * @param key key
+     * @return cookie value or null when the cookie is not set
+     */
+    protected String getNamedCookie(String key) {
+        return page.context().cookies().stream()
+                .filter(cookie -> cookie.name.equals(key))
+                .map(cookie -> cookie.value)
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * This method utilises TestNG Asserts to compare Texts
+     *
+     * @param actual   Actual Value
+     * @param expected Expected Value
+     */
+    protected void compareText(String actual, String expected) {
+        try {
+            Assert.assertEquals(actual, expected);
+            log.info("Text compared successfully");
+        } catch (Exception e) {
+            log.error("Texts compare failed" + e);
+        }
+    }
+
+    protected void catchBlock(Exception e) {
+        log.error("Error Description", e);
+        Assert.fail("TestCase Failed", e);
+    }
+}
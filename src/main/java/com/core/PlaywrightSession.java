@@ -0,0 +1,140 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Dialog;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PlaywrightSession owns one Playwright connection, browser, context and page.
+ * <p>
+ * Locally the browser is launched by Playwright, for any other grid the session connects to the
+ * Playwright server given by the PLAYWRIGHT_WS_ENDPOINT environment variable. All commands of a session
+ * travel over that single WebSocket connection.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public class PlaywrightSession implements AutoCloseable {
+    @Getter
+    private final Playwright playwright;
+    @Getter
+    private final Browser browser;
+    @Getter
+    private final BrowserContext context;
+    @Getter
+    private final Page page;
+    private volatile DialogAction dialogAction = DialogAction.DISMISS;
+    private volatile String lastDialogMessage;
+
+    private PlaywrightSession(Playwright playwright, Browser browser) {
+        this.playwright = playwright;
+        this.browser = browser;
+        this.context = browser.newContext(new Browser.NewContextOptions().setIgnoreHTTPSErrors(true));
+        this.page = context.newPage();
+        this.page.onDialog(this::handleDialog);
+    }
+
+    /**
+     * Starts a session.
+     *
+     * @param browser browser to use ("chrome", "firefox", "edge", "webkit")
+     * @param grid    "local" to launch the browser, any other value connects to PLAYWRIGHT_WS_ENDPOINT
+     * @return session
+     */
+    public static PlaywrightSession start(String browser, String grid) {
+        log.info("Setup Playwright Browser: {} Grid: {}", browser, grid);
+        Playwright playwright = Playwright.create();
+        try {
+            BrowserType browserType = switch (browser) {
+                case "firefox" -> playwright.firefox();
+                case "webkit" -> playwright.webkit();
+                default -> playwright.chromium();
+            };
+            Browser instance;
+            if ("local".equals(grid)) {
+                BrowserType.LaunchOptions options = new BrowserType.LaunchOptions().setHeadless(true);
+                if ("edge".equals(browser)) {
+                    options.setChannel("msedge");
+                }
+                instance = browserType.launch(options);
+            } else {
+                instance = browserType.connect(System.getenv("PLAYWRIGHT_WS_ENDPOINT"));
+            }
+            return new PlaywrightSession(playwright, instance);
+        } catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets how the next JavaScript dialogs are handled.
+     *
+     * @param action dialog action
+     */
+    void setDialogAction(DialogAction action) {
+        this.dialogAction = action;
+    }
+
+    /**
+     * Returns the message of the last dialog opened by the page.
+     *
+     * @return dialog message or null when no dialog was opened
+     */
+    String getLastDialogMessage() {
+        return lastDialogMessage;
+    }
+
+    private void handleDialog(Dialog dialog) {
+        lastDialogMessage = dialog.message();
+        log.info("Dialog opened: {}", lastDialogMessage);
+        if (dialogAction == DialogAction.ACCEPT) {
+            dialog.accept();
+        } else {
+            dialog.dismiss();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            context.close();
+            browser.close();
+        } finally {
+            playwright.close();
+        }
+    }
+
+    enum DialogAction {
+        ACCEPT, DISMISS
+    }
+}
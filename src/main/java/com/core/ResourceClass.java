@@ -0,0 +1,91 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resource classes the {@link AssetInterceptor} can block.
+ *
+ * @author Dipjyoti Metia
+ */
+public enum ResourceClass {
+    /**
+     * Analytics, tag managers and session recording.
+     */
+    ANALYTICS(List.of("google-analytics.com", "googletagmanager.com", "segment.io", "segment.com", "hotjar.com",
+            "mixpanel.com", "nr-data.net", "clarity.ms", "amplitude.com", "fullstory.com"), List.of()),
+    /**
+     * Ad networks.
+     */
+    ADS(List.of("doubleclick.net", "googlesyndication.com", "googleadservices.com", "adservice.google.com",
+            "amazon-adsystem.com", "adnxs.com", "taboola.com", "outbrain.com", "criteo.com"), List.of()),
+    /**
+     * Web fonts.
+     */
+    FONTS(List.of("fonts.googleapis.com", "fonts.gstatic.com", "use.typekit.net"), List.of(".woff", ".woff2", ".ttf", ".otf", ".eot")),
+    /**
+     * All images.
+     */
+    IMAGES(List.of(), List.of(".png", ".jpg", ".jpeg", ".gif", ".webp", ".avif", ".svg", ".ico", ".bmp"));
+
+    private final List<String> hosts;
+    private final List<String> extensions;
+
+    ResourceClass(List<String> hosts, List<String> extensions) {
+        this.hosts = hosts;
+        this.extensions = extensions;
+    }
+
+    /**
+     * Resolves a configured class name.
+     *
+     * @param name class name, e.g. "analytics"
+     * @return resource class
+     */
+    public static ResourceClass of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Checks whether a url belongs to the class, by host suffix or file extension.
+     *
+     * @param uri request url
+     * @return true when the url belongs to the class
+     */
+    public boolean matches(URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        for (String suffix : hosts) {
+            if (host.equals(suffix) || host.endsWith("." + suffix)) {
+                return true;
+            }
+        }
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase(Locale.ROOT);
+        return extensions.stream().anyMatch(path::endsWith);
+    }
+}
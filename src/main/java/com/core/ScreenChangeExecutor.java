@@ -0,0 +1,80 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.core;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScreenChangeExecutor sends the commands of an Appium session and counts every command that may change the screen.
+ * <p>
+ * All commands of a session pass through its executor: driver and element commands, gestures, mobile scripts and
+ * device settings alike, whether they come from the action helpers, page objects or the driver itself. Every command
+ * except reading the page source counts as a change, so a page snapshot taken at one count is current as long as
+ * the count stays the same.
+ *
+ * @author Dipjyoti Metia
+ */
+public class ScreenChangeExecutor extends AppiumCommandExecutor {
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Creates the executor of a session on an Appium server.
+     *
+     * @param server Appium server URL
+     */
+    public ScreenChangeExecutor(URL server) {
+        super(MobileCommand.commandRepository, server);
+    }
+
+    /**
+     * Returns the number of commands of a session that may have changed the screen.
+     *
+     * @param driver session
+     * @return change count, -1 when the session does not count its commands
+     */
+    public static long changes(WebDriver driver) {
+        return driver instanceof RemoteWebDriver remote && remote.getCommandExecutor() instanceof ScreenChangeExecutor executor
+                ? executor.changes.get()
+                : -1;
+    }
+
+    @Override
+    public Response execute(Command command) {
+        if (!DriverCommand.GET_PAGE_SOURCE.equals(command.getName())) {
+            changes.incrementAndGet();
+        }
+        return super.execute(command);
+    }
+}
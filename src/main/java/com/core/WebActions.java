@@ -24,17 +24,15 @@ SOFTWARE.
 
 package com.core;
 
-import com.csvreader.CsvReader;
-import com.csvreader.CsvWriter;
+import com.reporting.evidence.Evidence;
+import com.reporting.evidence.EvidenceSettings;
+import com.reporting.performance.WebVitalsCollector;
+import com.utils.LinkChecker;
+import com.utils.TestDataStore;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang.SystemUtils;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.poi.util.Units;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.awaitility.Awaitility;
 import org.openqa.selenium.*;
 import org.openqa.selenium.devtools.DevTools;
@@ -69,11 +67,47 @@ import static org.hamcrest.Matchers.not;
 @Slf4j
 public class WebActions extends DriverManager {
     private static final Faker faker = new Faker();
-    private static String datetime = null;
-    private static int counter = 0;
-    private static WebDriverWait wait;
-    private static JavascriptExecutor jsExec;
-    private final Map<String, String> dicttoread = new HashMap<>();
+    private static volatile LinkChecker linkChecker;
+    private static final String LINKS_SCRIPT = """
+            return Array.from(document.querySelectorAll('a[href], link[rel=stylesheet][href], img[src], script[src]'),
+                element => element.href || element.src);
+            """;
+    private static final String FILL_FORM_SCRIPT = """
+            var elements = arguments[0], values = arguments[1], rejected = [], locked = [];
+            function formField(e) {
+              return e instanceof HTMLInputElement || e instanceof HTMLTextAreaElement || e instanceof HTMLSelectElement;
+            }
+            for (var i = 0; i < elements.length; i++) {
+              var e = elements[i];
+              if (formField(e) && (e.disabled || e.readOnly)) locked.push(e.name || e.id || e.tagName.toLowerCase());
+            }
+            if (locked.length) return {locked: locked};
+            for (var i = 0; i < elements.length; i++) {
+              var e = elements[i], proto = null;
+              if (e instanceof HTMLInputElement) proto = HTMLInputElement.prototype;
+              else if (e instanceof HTMLTextAreaElement) proto = HTMLTextAreaElement.prototype;
+              else if (e instanceof HTMLSelectElement) proto = HTMLSelectElement.prototype;
+              if (!proto || e.type === 'file') { rejected.push(i); continue; }
+              if (e.type === 'checkbox' || e.type === 'radio') {
+                var checked = /^(true|on|yes|1)$/i.test(values[i]);
+                if (e.checked === checked) continue;
+                if (checked || e.type === 'checkbox') { e.click(); continue; }
+                e.checked = false;
+                e.dispatchEvent(new Event('input', {bubbles: true}));
+                e.dispatchEvent(new Event('change', {bubbles: true}));
+                continue;
+              }
+              e.focus();
+              Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, values[i]);
+              e.dispatchEvent(new Event('input', {bubbles: true}));
+              e.dispatchEvent(new Event('change', {bubbles: true}));
+              e.blur();
+              // a select without that option or an input sanitizing the value keeps something else
+              if (e.value !== String(values[i])) rejected.push(i);
+            }
+            return {rejected: rejected, locked: locked};
+            """;
+    private WebDriverWait wait;
 
     public static Map<String, String> get(Map<String, String> formParams) {
         return formParams
@@ -83,24 +117,12 @@ public class WebActions extends DriverManager {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    /**
-     * sleep
-     */
-    private static void sleep() {
-        long secondsLong = (long) (Integer) 20;
-        try {
-            Thread.sleep(secondsLong);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-    }
-
     private String getEnv(String env) {
         return System.getenv(env);
     }
 
     protected void navigate(String url) {
-        SystemDateFormat();
+        newPerformancePage(url);
         driverThread.navigate().to(url);
         driverThread.manage().window().maximize();
         driverThread.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
@@ -114,12 +136,7 @@ public class WebActions extends DriverManager {
      */
     private void fluentWait(WebElement element, int timeout) {
         try {
-            Wait<WebDriver> wait = new FluentWait<>(driverThread)
-                    .withTimeout(Duration.ofSeconds(timeout))
-                    .pollingEvery(Duration.ofMillis(5))
-                    .ignoring(NoSuchElementException.class);
-            wait.until(ExpectedConditions.visibilityOf(element));
-
+            new DomWait(driverThread, Duration.ofSeconds(timeout)).untilVisible(element);
         } catch (ElementNotInteractableException e) {
             e.printStackTrace();
         }
@@ -131,7 +148,7 @@ public class WebActions extends DriverManager {
      * @param element element
      */
     protected void waitForElement(WebElement element) {
-        new WebDriverWait(driverThread, Duration.ofSeconds(30)).until(ExpectedConditions.visibilityOf(element));
+        new DomWait(driverThread, Duration.ofSeconds(30)).untilVisible(element);
     }
 
     /**
@@ -147,7 +164,7 @@ public class WebActions extends DriverManager {
      * @param elements elements
      */
     protected void waitForElements(List<WebElement> elements) {
-        new WebDriverWait(driverThread, Duration.ofSeconds(30)).until(ExpectedConditions.visibilityOfAllElements(elements));
+        new DomWait(driverThread, Duration.ofSeconds(30)).untilAllVisible(elements);
     }
 
     /**
@@ -156,7 +173,7 @@ public class WebActions extends DriverManager {
      * @param elements elements
      */
     protected void waitForElementToInvisible(WebElement elements) {
-        new WebDriverWait(driverThread, Duration.ofSeconds(30)).until(ExpectedConditions.invisibilityOf(elements));
+        new DomWait(driverThread, Duration.ofSeconds(30)).untilInvisible(elements);
     }
 
     /**
@@ -165,7 +182,7 @@ public class WebActions extends DriverManager {
      * @param elements elements
      */
     protected void waitForElementsToInvisible(List<WebElement> elements) {
-        new WebDriverWait(driverThread, Duration.ofSeconds(30)).until(ExpectedConditions.invisibilityOfAllElements(elements));
+        new DomWait(driverThread, Duration.ofSeconds(30)).untilAllInvisible(elements);
     }
 
     /**
@@ -326,6 +343,82 @@ public class WebActions extends DriverManager {
         element.sendKeys(value);
     }
 
+    /**
+     * Fill form, sets all field values in one script and fires input and change events.
+     * Checkboxes and radio buttons take "true", "on", "yes" or "1" to be checked, anything else to be unchecked,
+     * they are clicked when their state has to change. A field that does not hold the value afterwards, e.g. a
+     * select without such an option, is filled again like a user would: selects by visible text, other fields
+     * with keystrokes.
+     *
+     * @param fields elements and values, filled in iteration order
+     * @throws InvalidElementStateException when a field is disabled or read-only, nothing is filled then
+     */
+    protected void fillForm(Map<WebElement, String> fields) {
+        fillForm(fields, false);
+    }
+
+    /**
+     * Fill form
+     *
+     * @param fields     elements and values, filled in iteration order
+     * @param keystrokes type the values with real keystrokes instead of setting them by script
+     * @throws InvalidElementStateException when a field is disabled or read-only
+     */
+    protected void fillForm(Map<WebElement, String> fields, boolean keystrokes) {
+        List<WebElement> elements = new ArrayList<>(fields.keySet());
+        new DomWait(driverThread, Duration.ofSeconds(10)).untilAllVisible(elements);
+        if (keystrokes) {
+            fields.forEach(this::type);
+            return;
+        }
+        List<String> values = new ArrayList<>(fields.values());
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driverThread).executeScript(FILL_FORM_SCRIPT, elements, values);
+        List<?> locked = (List<?>) result.get("locked");
+        if (!locked.isEmpty()) {
+            throw new InvalidElementStateException("Form fields " + locked + " are disabled or read-only, form not filled");
+        }
+        for (Object index : (List<?>) result.get("rejected")) {
+            int i = ((Number) index).intValue();
+            log.info("Field {} not settable by script, filling it like a user instead", describe(elements.get(i)));
+            type(elements.get(i), values.get(i));
+        }
+    }
+
+    /**
+     * Types a value with keystrokes, a checkbox or radio button is clicked when its state has to change and
+     * a select gets the option with the value as visible text
+     *
+     * @param element element
+     * @param value   value
+     * @throws InvalidElementStateException when the field is disabled or read-only
+     */
+    private void type(WebElement element, String value) {
+        if (!element.isEnabled() || Boolean.parseBoolean(element.getDomProperty("readOnly"))) {
+            throw new InvalidElementStateException("Form field " + describe(element) + " is disabled or read-only");
+        }
+        if ("select".equalsIgnoreCase(element.getTagName())) {
+            new Select(element).selectByVisibleText(value);
+            return;
+        }
+        String type = element.getDomProperty("type");
+        if ("checkbox".equals(type) || "radio".equals(type)) {
+            if (element.isSelected() != value.matches("(?i)true|on|yes|1")) {
+                element.click();
+            }
+            return;
+        }
+        element.clear();
+        element.sendKeys(value);
+    }
+
+    private static String describe(WebElement element) {
+        String name = element.getDomAttribute("name");
+        if (name == null || name.isEmpty()) {
+            name = element.getDomAttribute("id");
+        }
+        return name == null || name.isEmpty() ? element.getTagName() : name;
+    }
+
     /**
      * Select Element
      *
@@ -485,121 +578,78 @@ public class WebActions extends DriverManager {
     }
 
     /**
-     * This method utilises TestNG Asserts to compare Texts
+     * Get All Link Urls
      *
-     * @param actual   Actual Value
-     * @param expected Expected Value
-     */
-    protected void compareText(String actual, String expected) {
-        try {
-            Assert.assertEquals(actual, expected);
-            log.info("Text compared successfully");
-        } catch (Exception e) {
-            log.error("Texts compare failed" + e);
-        }
-    }
-
-    public void setDriver() {
-        wait = new WebDriverWait(driverThread, Duration.ofSeconds(10));
-        jsExec = (JavascriptExecutor) driverThread;
-    }
-
-    /**
-     * wait for jquery load
+     * @param elements link elements
+     * @return absolute href of every link
      */
-    private void waitForJQueryLoad() {
-        ExpectedCondition<Boolean> jQueryLoad = driver -> ((Long) ((JavascriptExecutor) driverThread)
-                .executeScript("return jQuery.active") == 0);
-        boolean jqueryReady = (Boolean) jsExec.executeScript("return jQuery.active==0");
-        if (!jqueryReady) {
-            System.out.println("JQuery is NOT Ready!");
-            wait.until(jQueryLoad);
-        } else {
-            System.out.println("JQuery is Ready!");
-        }
+    public List<String> getAllLinkUrls(List<WebElement> elements) {
+        return elements.stream().map(ele -> ele.getDomProperty("href"))
+                .filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     /**
-     * wait for angular load
+     * Checks links and assets of the current page: anchors, stylesheets, images and scripts
+     *
+     * @return broken links
      */
-    private void waitForAngularLoad() {
-        WebDriverWait wait = new WebDriverWait(driverThread, Duration.ofSeconds(15));
-        JavascriptExecutor jsExec = (JavascriptExecutor) driverThread;
-        String angularReadyScript = "return angular.element(document).injector().get('$http').pendingRequests.length === 0";
-        ExpectedCondition<Boolean> angularLoad = driver -> {
-            assert driver != null;
-            return Boolean.valueOf(((JavascriptExecutor) driver)
-                    .executeScript(angularReadyScript).toString());
-        };
-        boolean angularReady = Boolean.parseBoolean(jsExec.executeScript(angularReadyScript).toString());
-        if (!angularReady) {
-            System.out.println("ANGULAR is NOT Ready!");
-            wait.until(angularLoad);
-        } else {
-            System.out.println("ANGULAR is Ready!");
-        }
+    public List<LinkChecker.Result> checkLinks() {
+        @SuppressWarnings("unchecked")
+        List<String> urls = (List<String>) ((JavascriptExecutor) driverThread).executeScript(LINKS_SCRIPT);
+        return checkLinks(urls);
     }
 
     /**
-     * wait until js ready
-     */
-    private void waitUntilJSReady() {
-        WebDriverWait wait = new WebDriverWait(driverThread, Duration.ofSeconds(15));
-        JavascriptExecutor jsExec = (JavascriptExecutor) driverThread;
-        ExpectedCondition<Boolean> jsLoad = driver -> Objects.requireNonNull(((JavascriptExecutor) driverThread)
-                .executeScript("return document.readyState")).toString().equals("complete");
-        boolean jsReady = Objects.requireNonNull(jsExec.executeScript("return document.readyState")).toString().equals("complete");
-        if (!jsReady) {
-            System.out.println("JS in NOT Ready!");
-            wait.until(jsLoad);
-        } else {
-            System.out.println("JS is Ready!");
+     * Checks links with HEAD and GET requests, results are shared by all tests
+     *
+     * @param urls absolute URLs
+     * @return broken links
+     */
+    public List<LinkChecker.Result> checkLinks(List<String> urls) {
+        List<LinkChecker.Result> results = linkChecker().check(urls);
+        List<LinkChecker.Result> broken = results.stream().filter(LinkChecker.Result::isBroken).toList();
+        results.forEach(result -> log.debug("{} {} {} in {} ms", result.status(), result.method(), result.url(), result.latency().toMillis()));
+        broken.forEach(result -> log.error("Broken link {}: {}", result.url(), result.error() != null ? result.error() : result.status()));
+        log.info("{} links checked, {} broken", results.size(), broken.size());
+        return broken;
+    }
+
+    private LinkChecker linkChecker() {
+        if (linkChecker == null) {
+            synchronized (WebActions.class) {
+                if (linkChecker == null) {
+                    linkChecker = new LinkChecker(appConfig.getLinkPerHost(), Duration.ofSeconds(appConfig.getLinkTimeout()));
+                }
+            }
         }
+        return linkChecker;
     }
 
     /**
-     * wait until jquery ready
+     * This method utilises TestNG Asserts to compare Texts
+     *
+     * @param actual   Actual Value
+     * @param expected Expected Value
      */
-    private void waitUntilJQueryReady() {
-        JavascriptExecutor jsExec = (JavascriptExecutor) driverThread;
-        Boolean jQueryDefined = (Boolean) jsExec.executeScript("return typeof jQuery != 'undefined'");
-        if (Boolean.TRUE.equals(jQueryDefined)) {
-            sleep();
-            waitForJQueryLoad();
-            waitUntilJSReady();
-            sleep();
-        } else {
-            System.out.println("jQuery is not defined on this site!");
+    protected void compareText(String actual, String expected) {
+        try {
+            Assert.assertEquals(actual, expected);
+            log.info("Text compared successfully");
+        } catch (Exception e) {
+            log.error("Texts compare failed" + e);
         }
     }
 
-    /**
-     * wait for angular ready
-     */
-    private void waitUntilAngularReady() {
-        JavascriptExecutor jsExec = (JavascriptExecutor) driverThread;
-        Boolean angularUnDefined = (Boolean) jsExec.executeScript("return window.angular === undefined");
-        if (Boolean.FALSE.equals(angularUnDefined)) {
-            Boolean angularInjectorUnDefined = (Boolean) jsExec.executeScript("return angular.element(document).injector() === undefined");
-            if (Boolean.FALSE.equals(angularInjectorUnDefined)) {
-                sleep();
-                waitForAngularLoad();
-                waitUntilJSReady();
-                sleep();
-            } else {
-                System.out.println("Angular injector is not defined on this site!");
-            }
-        } else {
-            System.out.println("Angular is not defined on this site!");
-        }
+    public void setDriver() {
+        wait = new WebDriverWait(driverThread, Duration.ofSeconds(10));
     }
 
     /**
      * Wait jquery angular
      */
     public void waitJQueryAngular() {
-        waitUntilJQueryReady();
-        waitUntilAngularReady();
+        PageReadiness.await(driverThread, Duration.ofSeconds(15), appConfig.isReadinessNetwork(),
+                Duration.ofMillis(appConfig.getReadinessMaxRequestAge()));
     }
 
     /**
@@ -634,9 +684,7 @@ public class WebActions extends DriverManager {
      * @param timeout timeout
      */
     public void clickWhenReady(By locator, int timeout) {
-        WebDriverWait wait = new WebDriverWait(driverThread, Duration.ofSeconds(timeout));
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        element.click();
+        new DomWait(driverThread, Duration.ofSeconds(timeout)).untilClickable(locator).click();
     }
 
     /**
@@ -648,32 +696,7 @@ public class WebActions extends DriverManager {
      * @return fieldValue
      */
     protected String getData(String t_testcaseName, String t_fieldName, int t_instance) {
-        try {
-            int flag = 0;
-            CsvReader csvreaderobj = new CsvReader("input/DataSheet.csv");
-            csvreaderobj.readHeaders();
-            while (csvreaderobj.readRecord()) {
-                String p_testcaseName = csvreaderobj.get("TestcaseName").trim();
-                String p_testcaseInstance = csvreaderobj.get("TestcaseInstance").trim();
-                if ((t_testcaseName.equalsIgnoreCase(p_testcaseName)) && (t_instance == Integer.parseInt(p_testcaseInstance))) {
-                    for (int i = 0; i < csvreaderobj.getColumnCount() / 2 + 1; i++) {
-                        String p_field = csvreaderobj.get("Field" + i).trim();
-                        String p_objectProperty = csvreaderobj.get("Value" + i).trim();
-                        dicttoread.put(p_field, p_objectProperty);
-                    }
-                    flag = 0;
-                    break;
-                } else {
-                    flag = 1;
-                }
-            }
-            if (flag == 1) {
-                log.info("Not data present for testname" + t_testcaseName);
-            }
-        } catch (IOException ef) {
-            log.error(ef.getMessage());
-        }
-        return dicttoread.get(t_fieldName);
+        return TestDataStore.of("input/DataSheet.csv").get(t_testcaseName, t_fieldName, t_instance);
     }
 
     /**
@@ -685,86 +708,7 @@ public class WebActions extends DriverManager {
      * @param t_instance     instance
      */
     protected void writeData(String t_testcasename, String t_field, String t_value, int t_instance) {
-        try {
-            int flag = 0;
-            int i;
-            int P_valuenotduplicated = 0;
-            String FileContent = null;
-            CsvWriter csvOutput = new CsvWriter(new FileWriter("input\\Datasheet1.csv", false), ',');
-            CsvReader csvobj = new CsvReader("input\\Datasheet.csv");
-            csvobj.readHeaders();
-            String FileContentPerRow = csvobj.getRawRecord();
-            csvOutput.writeRecord(FileContentPerRow.split(","));
-            while (csvobj.readRecord()) {
-                FileContentPerRow = csvobj.getRawRecord();
-                String p_testcaseName = csvobj.get("TestcaseName").trim();
-                String p_testcaseInstance = csvobj.get("TestcaseInstance").trim();
-                if (t_testcasename.equalsIgnoreCase(p_testcaseName) && (t_instance == Integer.parseInt(p_testcaseInstance))) {
-                    flag = 1;
-                    for (i = 1; i < csvobj.getColumnCount() / 2 + 1; i++) {
-                        String p_filed = csvobj.get("Field" + i).trim();
-                        if (p_filed.equalsIgnoreCase(t_field)) {
-                            String p_field1 = csvobj.get("Value" + i).trim();
-                            dicttoread.put(t_field, t_value);
-                            log.info("value for the field: " + t_field + " is updated to: " + t_value + " Successfully");
-                            String stp = CsvWriter.replace(FileContentPerRow, t_field + "," + p_field1, t_field + "," + t_value);
-                            log.info(stp);
-                            FileContentPerRow = stp;
-                            P_valuenotduplicated = 1;
-                        }
-                    }
-                    if (P_valuenotduplicated == 0) {
-                        String p_field1 = csvobj.get("Value" + (i - 1)).trim();
-                        dicttoread.put(t_field, t_value);
-                        String stp1 = CsvWriter.replace(FileContentPerRow, p_field1, p_field1 + "," + t_field + "," + t_value);
-                        log.info(stp1);
-                        FileContentPerRow = stp1;
-                        log.info("New Field: " + t_field + " is added successfully with value: " + t_value);
-                    }
-                    flag = 1;
-                }
-                csvOutput.writeRecord(FileContentPerRow.split(","));
-            }
-            csvOutput.flush();
-            csvOutput.close();
-            csvobj.close();
-            RenameCsvFile("input\\Datasheet1.csv", "input\\Datasheet.csv");
-            if (flag == 0) {
-                log.info("No data present for the testname");
-            }
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
-    }
-
-    /**
-     * Rename csv file
-     *
-     * @param source sourceFile
-     * @param dest   destinationFile
-     * @return boolean
-     */
-    private boolean RenameCsvFile(String source, String dest) {
-        boolean b = false;
-        try {
-            boolean b1 = false;
-            File file1 = new File(dest);
-            System.gc();
-            file1.setWritable(true);
-            Thread.sleep(500);
-            if (file1.exists()) {
-                b1 = file1.delete();
-            }
-            Thread.sleep(500);
-            log.info(String.valueOf(b1));
-            File file = new File(source);
-            final String st = dest;
-            b = file.renameTo(new File(st));
-            log.info(String.valueOf(b));
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
-        return b;
+        TestDataStore.of("input/DataSheet.csv").put(t_testcasename, t_field, t_value, t_instance);
     }
 
     /**
@@ -774,79 +718,20 @@ public class WebActions extends DriverManager {
      */
     protected void captureImage(String p_testcaseName) {
         try {
-            if (!SystemUtils.IS_OS_LINUX || !SystemUtils.IS_OS_MAC_OSX) {
-                counter = counter + 1;
-                File src = ((TakesScreenshot) driverThread).getScreenshotAs(OutputType.FILE);
-                FileUtils.copyFile(src, new File(("ScreensDoc\\" + p_testcaseName + "\\" + datetime + "\\" + counter + ".png")));
-            }
+            byte[] png = ((TakesScreenshot) driverThread).getScreenshotAs(OutputType.BYTES);
+            Evidence.capture(p_testcaseName, png, EvidenceSettings.of(appConfig));
         } catch (Exception e) {
             log.error("Capture screenShot failed", e);
         }
     }
 
     /**
-     * Create image doc
+     * Create image doc, completes the evidence document with the captured screenshots
      *
      * @param p_testcaseName1 testcaseName
      */
     protected void CreateImageDoc(String p_testcaseName1) {
-        if (!SystemUtils.IS_OS_LINUX || !SystemUtils.IS_OS_MAC_OSX) {
-            try (XWPFDocument doc = new XWPFDocument()) {
-                XWPFParagraph p = doc.createParagraph();
-                XWPFRun r = p.createRun();
-                for (int i = 1; i <= counter; i++) {
-                    String path = "ScreensDoc\\" + p_testcaseName1 + "\\" + datetime + "\\" + i + ".png";
-                    try (FileInputStream pic = new FileInputStream(path)) {
-                        r.addBreak();
-                        r.addCarriageReturn();
-                        r.addPicture(pic, XWPFDocument.PICTURE_TYPE_PNG, "ScreensDoc\\" + p_testcaseName1 + "\\" +
-                                datetime + "\\" + i + ".png", Units.toEMU(300), Units.toEMU(400));
-                        FileOutputStream out = new FileOutputStream("ScreensDoc\\" + p_testcaseName1 + "\\" + datetime + "\\" + p_testcaseName1 + ".docx");
-                        doc.write(out);
-                        pic.close();
-                        out.close();
-                    } catch (IOException io) {
-                        log.error(io.getMessage());
-                    }
-                }
-                for (int i = 1; i <= counter; i++) {
-                    File src1 = new File("ScreensDoc\\" + p_testcaseName1 + "\\" + datetime + "\\" + i + ".png");
-                    deleteDir(src1);
-                }
-                counter = 0;
-            } catch (Exception e) {
-                log.error(e.getMessage());
-            }
-        }
-    }
-
-    /**
-     * Delete dir
-     *
-     * @param file fileName
-     */
-    private void deleteDir(File file) {
-        File[] contents = file.listFiles();
-        if (contents != null) {
-            for (File f : contents) {
-                f.delete();
-            }
-        }
-        file.delete();
-    }
-
-    /**
-     * System date format
-     */
-    private void SystemDateFormat() {
-        try {
-            DateFormat date = new SimpleDateFormat("yyyy.MM.dd_hh.mm");
-            Date date1 = new Date();
-            String abc1 = date.format(date1);
-            datetime = "Run_" + abc1;
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        Evidence.finish(p_testcaseName1);
     }
 
     /**
@@ -1009,11 +894,11 @@ public class WebActions extends DriverManager {
     private List<WebElement> getWebElements(String webElement, WebElementBy elementBy) throws Exception {
         List<WebElement> element = new ArrayList<>();
         switch (elementBy) {
-            case XPATH -> element = driverThread.findElements(By.xpath(webElement));
-            case ID -> element = driverThread.findElements(By.id(webElement));
-            case NAME -> element = driverThread.findElements(By.name(webElement));
-            case CSS -> element = driverThread.findElements(By.cssSelector(webElement));
-            case CLASS -> element = driverThread.findElements(By.className(webElement));
+            case XPATH -> element = locators().findAll(By.xpath(webElement));
+            case ID -> element = locators().findAll(By.id(webElement));
+            case NAME -> element = locators().findAll(By.name(webElement));
+            case CSS -> element = locators().findAll(By.cssSelector(webElement));
+            case CLASS -> element = locators().findAll(By.className(webElement));
             default -> log.info("Element type not found");
         }
         if (element == null) {
@@ -1032,11 +917,11 @@ public class WebActions extends DriverManager {
     private WebElement getWebElement(String webElement, WebElementBy elementBy) {
         WebElement element = null;
         switch (elementBy) {
-            case XPATH -> element = driverThread.findElement(By.xpath(webElement));
-            case ID -> element = driverThread.findElement(By.id(webElement));
-            case NAME -> element = driverThread.findElement(By.name(webElement));
-            case CSS -> element = driverThread.findElement(By.cssSelector(webElement));
-            case CLASS -> element = driverThread.findElement(By.className(webElement));
+            case XPATH -> element = locators().find(By.xpath(webElement));
+            case ID -> element = locators().find(By.id(webElement));
+            case NAME -> element = locators().find(By.name(webElement));
+            case CSS -> element = locators().find(By.cssSelector(webElement));
+            case CLASS -> element = locators().find(By.className(webElement));
             default -> log.info("Element type not found");
         }
         if (element == null) {
@@ -1045,6 +930,15 @@ public class WebActions extends DriverManager {
         return element;
     }
 
+    /**
+     * Locator cache of the session
+     *
+     * @return locator cache
+     */
+    protected LocatorCache locators() {
+        return LocatorCache.of(driverThread);
+    }
+
     /**
      * Is Exists
      *
@@ -1093,6 +987,7 @@ public class WebActions extends DriverManager {
      */
     protected void switchToTab() {
         driverThread.switchTo().newWindow(WindowType.TAB);
+        locators().windowSelected(driverThread.getWindowHandle());
     }
 
     /**
@@ -1100,6 +995,7 @@ public class WebActions extends DriverManager {
      */
     protected void switchToWindow() {
         driverThread.switchTo().newWindow(WindowType.WINDOW);
+        locators().windowSelected(driverThread.getWindowHandle());
     }
 
     /**
@@ -1158,7 +1054,6 @@ public class WebActions extends DriverManager {
     }
 
     protected void catchBlock(Exception e) {
-        counter = 0;
         log.error("Error Description", e);
         Assert.fail("TestCase Failed", e);
     }
@@ -1254,30 +1149,15 @@ public class WebActions extends DriverManager {
     //************* Performance Metrics *************
 
     /**
-     * public void performanceMetric(String url) {
-     * Boolean success = false;
-     * Augmenter augmenter = new Augmenter();
-     * driverThread = augmenter.augment(driverThread);
-     * <p>
-     * DevTools devTools = ((HasDevTools) driverThread).getDevTools();
-     * devTools.createSession();
-     * <p>
-     * devTools.send(Performance.enable(Optional.empty()));
-     * List<Metric> metricList = devTools.send(Performance.getMetrics());
-     * <p>
-     * driverThread.get(url);
-     * <p>
-     * for (Metric m : metricList) {
-     * System.out.println(m.getName() + " = " + m.getValue());
-     * success = true;
-     * }
-     * if (success) {
-     * markTestStatus("passed", "Performance metrics fetched", driverThread);
-     * } else {
-     * markTestStatus("failed", "Performance metrics were not fetched", driverThread);
-     * }
-     * }
-     **/
+     * Records the Web Vitals of the current page, the session needs to run in performance mode on Chrome or Edge
+     *
+     * @param page page name used to group the measurements
+     * @return LCP, CLS, TBT, TTFB, FCP and navigation timings, empty when no collector is attached
+     */
+    public Map<String, Double> performanceMetric(String page) {
+        WebVitalsCollector collector = WebVitalsCollector.of(driverThread);
+        return collector != null ? collector.measure(page) : Map.of();
+    }
 
     public void markTestStatus(String status, String reason, WebDriver driver) {
         JavascriptExecutor jse = (JavascriptExecutor) driver;
@@ -0,0 +1,314 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * WebDriverPool keeps warm browser sessions and hands them out to test classes.
+ * <p>
+ * Sessions are pooled per {@link Key} (browser, grid and performance flag) and every key is bounded
+ * by the configured pool size. The first request for a key pre-starts the configured number of
+ * sessions in the background. Returned sessions are reset (cookies, storage, extra windows) before
+ * they are handed out again and sessions failing the reset or the health check are evicted.
+ * <p>
+ * Only sessions offering DevTools are pooled, locally or on a grid that exposes it (remote sessions are reached
+ * through the {@link Augmenter}). The reset clears the cookies of all sites and the storage of every origin a frame
+ * of the session navigated to, so nothing of one class, e.g. an SSO login or the storage of a third-party iframe,
+ * leaks into the next lease. Sessions without DevTools, e.g. Firefox, serve a single lease and are quit on release,
+ * WebDriver alone cannot reach the state of the origins the session left.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class WebDriverPool {
+    private static final String ORIGIN_SCRIPT = "return window.location.origin;";
+    private static final Event<Map<String, Object>> FRAME_NAVIGATED =
+            new Event<>("Page.frameNavigated", input -> input.read(Json.MAP_TYPE));
+    private static final long POLL_SLICE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<Key, KeyedPool> pools = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Tracking> origins = new ConcurrentHashMap<>();
+    private final ExecutorService warmupExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "webdriver-pool-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int size;
+    private final int warmup;
+    private final Duration timeout;
+    private final Consumer<WebDriver> closer;
+
+    /**
+     * Creates a pool.
+     *
+     * @param size    maximum number of live sessions per key
+     * @param warmup  number of sessions pre-started on the first request for a key
+     * @param timeout maximum time to wait for a free session
+     * @param closer  closes an evicted session
+     */
+    public WebDriverPool(int size, int warmup, Duration timeout, Consumer<WebDriver> closer) {
+        this.size = Math.max(1, size);
+        this.warmup = Math.min(Math.max(0, warmup), this.size);
+        this.timeout = timeout;
+        this.closer = closer;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "webdriver-pool-shutdown"));
+    }
+
+    /**
+     * Leases a session for the given key, starting a new one with the factory when no idle session is available.
+     * The warm sessions of a key are started with the factory of its first request, so the factory must build
+     * the session from the key alone; anything specific to the caller, e.g. the cloud session name, is set on
+     * the leased session.
+     *
+     * @param key     pool key
+     * @param factory creates a new session from the key
+     * @return leased session
+     * @throws Exception when no session could be created or the wait timed out
+     */
+    public WebDriver acquire(Key key, SessionFactory factory) throws Exception {
+        KeyedPool pool = pools.computeIfAbsent(key, k -> new KeyedPool());
+        if (pool.warmedUp.compareAndSet(false, true)) {
+            warmUp(key, pool, factory);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            WebDriver driver = pool.idle.pollFirst();
+            if (driver == null && !pool.reserve()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("No free session for " + key + " within " + timeout);
+                }
+                // wake up periodically, an evicted session frees capacity without returning anything to the deque
+                driver = pool.idle.pollFirst(Math.min(remaining, POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+                if (driver == null) {
+                    continue;
+                }
+            }
+            if (driver == null) {
+                log.info("Starting new pooled session for {}", key);
+                try {
+                    return create(factory);
+                } catch (Exception e) {
+                    pool.live.decrementAndGet();
+                    throw e;
+                }
+            }
+            if (isHealthy(driver)) {
+                log.info("Reusing pooled session for {}", key);
+                return driver;
+            }
+            evict(key, pool, driver);
+        }
+    }
+
+    /**
+     * Returns a session to the pool. The session is reset and evicted when the reset fails, sessions without
+     * DevTools are quit.
+     *
+     * @param key    pool key
+     * @param driver leased session
+     */
+    public void release(Key key, WebDriver driver) {
+        KeyedPool pool = pools.get(key);
+        if (pool == null || driver == null) {
+            return;
+        }
+        Tracking tracking = origins.get(driver);
+        if (tracking == null) {
+            log.info("Quitting session without DevTools for {}, it cannot be reset completely", key);
+            evict(key, pool, driver);
+            return;
+        }
+        try {
+            reset(driver, tracking);
+            if (!pool.idle.offerFirst(driver)) {
+                evict(key, pool, driver);
+            }
+        } catch (Exception e) {
+            log.warn("Evicting pooled session for {} after failed reset: {}", key, e.getMessage());
+            evict(key, pool, driver);
+        }
+    }
+
+    /**
+     * Quits all idle sessions.
+     */
+    public void shutdown() {
+        pools.forEach((key, pool) -> {
+            WebDriver driver;
+            while ((driver = pool.idle.pollFirst()) != null) {
+                evict(key, pool, driver);
+            }
+        });
+        warmupExecutor.shutdownNow();
+    }
+
+    private void warmUp(Key key, KeyedPool pool, SessionFactory factory) {
+        for (int i = 0; i < warmup; i++) {
+            if (!pool.reserve()) {
+                return;
+            }
+            warmupExecutor.submit(() -> {
+                try {
+                    pool.idle.offerLast(create(factory));
+                    log.info("Pre-started session for {}", key);
+                } catch (Exception e) {
+                    pool.live.decrementAndGet();
+                    log.error("Failed to pre-start session for {}: {}", key, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private WebDriver create(SessionFactory factory) throws Exception {
+        WebDriver driver = factory.create();
+        if (driver == null) {
+            throw new IllegalStateException("Session factory returned no driver");
+        }
+        trackOrigins(driver);
+        return driver;
+    }
+
+    private void trackOrigins(WebDriver driver) {
+        Set<String> visited = ConcurrentHashMap.newKeySet();
+        try {
+            WebDriver devToolsDriver = driver instanceof HasDevTools ? driver : new Augmenter().augment(driver);
+            DevTools devTools = ((HasDevTools) devToolsDriver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Page.enable", Map.of()));
+            devTools.addListener(FRAME_NAVIGATED, params -> {
+                Object frame = params.get("frame");
+                if (frame instanceof Map<?, ?> map && map.get("securityOrigin") instanceof String origin && origin.startsWith("http")) {
+                    visited.add(origin);
+                }
+            });
+            origins.put(driver, new Tracking(devTools, visited));
+        } catch (Exception e) {
+            // e.g. Firefox or a grid without CDP, the session is quit on release instead of pooled
+            log.info("DevTools unavailable, session will not be pooled: {}", e.getMessage());
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void reset(WebDriver driver, Tracking tracking) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i)).close();
+        }
+        driver.switchTo().window(handles.get(0));
+        Set<String> visited = tracking.visited();
+        if (((JavascriptExecutor) driver).executeScript(ORIGIN_SCRIPT) instanceof String origin && origin.startsWith("http")) {
+            visited.add(origin);
+        }
+        driver.navigate().to("about:blank");
+        DevTools devTools = tracking.devTools();
+        devTools.send(new Command<>("Network.clearBrowserCookies", Map.of()));
+        for (String origin : List.copyOf(visited)) {
+            devTools.send(new Command<>("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all")));
+            visited.remove(origin);
+        }
+    }
+
+    private void evict(Key key, KeyedPool pool, WebDriver driver) {
+        pool.live.decrementAndGet();
+        origins.remove(driver);
+        try {
+            closer.accept(driver);
+        } catch (Exception e) {
+            log.debug("Quit of evicted session for {} failed: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a new driver session.
+     */
+    @FunctionalInterface
+    public interface SessionFactory {
+        WebDriver create() throws Exception;
+    }
+
+    /**
+     * Pool key, sessions are only shared between classes requesting the same browser on the same grid.
+     *
+     * @param browser browser name
+     * @param grid    grid provider
+     * @param perf    performance flag
+     */
+    public record Key(String browser, String grid, boolean perf) {
+    }
+
+    private record Tracking(DevTools devTools, Set<String> visited) {
+    }
+
+    private final class KeyedPool {
+        private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger live = new AtomicInteger();
+        private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+        private boolean reserve() {
+            int current;
+            do {
+                current = live.get();
+                if (current >= size) {
+                    return false;
+                }
+            } while (!live.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -26,6 +26,7 @@ package com.core;
 
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
@@ -37,6 +38,7 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
 import org.openqa.selenium.firefox.ProfilesIni;
+import org.openqa.selenium.json.Json;
 import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.logging.LoggingPreferences;
 import org.openqa.selenium.remote.DesiredCapabilities;
@@ -49,6 +51,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 /**
@@ -63,6 +66,13 @@ import java.util.logging.Level;
 @Slf4j
 abstract class WebOptions extends MobileOptions {
 
+    /**
+     * Starts the proxy recording the traffic of this test class's performance session.
+     *
+     * @return capabilities routing the session through the proxy
+     */
+    protected abstract DesiredCapabilities performance();
+
     /**
      * Generates a URL for the given cloud provider.
      *
@@ -132,7 +142,7 @@ abstract class WebOptions extends MobileOptions {
         options.addArguments("--disable-browser-side-navigation");
         options.addArguments("--disable-gpu");
         if (perf) {
-            options.merge(DriverController.performance());
+            options.merge(performance());
         }
         log.info("Chrome options added");
         return options;
@@ -201,7 +211,7 @@ abstract class WebOptions extends MobileOptions {
     /**
      * Sets up cloud capabilities based on the given cloud provider.
      *
-     * @param cloud     name of the cloud provider ("browserstack", "lambda", or "aws")
+     * @param cloud     name of the cloud provider ("browserstack", "lambda", "sauce", "docker" or "local")
      * @param browser  name of the browser to use. ("chrome", "firefox", "edge")
      * @param testName name of the test to run
      */
@@ -214,6 +224,9 @@ abstract class WebOptions extends MobileOptions {
             case "lambda" -> {
                 return new RemoteWebDriver(setupWebGrid(cloud), addLambdaTestCapabilities(browser, testName), false);
             }
+            case "sauce" -> {
+                return new RemoteWebDriver(setupWebGrid(cloud), addSauceLabsCapabilities(browser, testName), false);
+            }
             case "docker" -> {
                 new RemoteWebDriver(setupWebGrid(cloud), getBrowserOptions(browser, perf), false);
             }
@@ -236,6 +249,32 @@ abstract class WebOptions extends MobileOptions {
         return null;
     }
 
+    /**
+     * Renames a running cloud session. Pooled sessions are started before the leasing test class is known and
+     * serve several classes one after another, so every lease names the session after its class.
+     *
+     * @param driver   session
+     * @param cloud    name of the cloud provider the session runs on, other grids are ignored
+     * @param testName name of the test leasing the session
+     */
+    protected static void nameSession(WebDriver driver, String cloud, String testName) {
+        String script = switch (String.valueOf(cloud)) {
+            case "browserstack" -> "browserstack_executor: " + new Json().toJson(
+                    Map.of("action", "setSessionName", "arguments", Map.of("name", testName)));
+            case "sauce" -> "sauce:job-name=" + testName;
+            case "lambda" -> "lambda-name=" + testName;
+            default -> null;
+        };
+        if (script == null) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(script);
+        } catch (Exception e) {
+            log.warn("Session on {} grid not renamed to {}: {}", cloud, testName, e.getMessage());
+        }
+    }
+
     /**
      * Returns DesiredCapabilities object with BrowserStack capabilities for the specified browser and test name.
      *
@@ -266,6 +305,32 @@ abstract class WebOptions extends MobileOptions {
         return capabilities;
     }
 
+    /**
+     * Returns DesiredCapabilities object with Sauce Labs capabilities for the specified browser and test name.
+     * The credentials are part of the Sauce Labs grid URL.
+     *
+     * @param browser  String indicating the browser to use ("chrome", "firefox", "edge")
+     * @param testName String containing the name of the test
+     * @return DesiredCapabilities object with Sauce Labs capabilities for the specified browser and test name
+     */
+    protected DesiredCapabilities addSauceLabsCapabilities(String browser, String testName) {
+        log.info("Setting up Sauce Labs options");
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        switch (browser) {
+            case "chrome" -> capabilities.setCapability("browserName", "chrome");
+            case "firefox" -> capabilities.setCapability("browserName", "firefox");
+            case "edge" -> capabilities.setCapability("browserName", "MicrosoftEdge");
+            default -> log.error("No browser option provided");
+        }
+        capabilities.setCapability("browserVersion", "latest");
+        capabilities.setCapability("platformName", "Windows 11");
+        HashMap<String, Object> sauceOptions = new HashMap<>();
+        sauceOptions.put("name", testName);
+        sauceOptions.put("build", "BUILD_NAME");
+        capabilities.setCapability("sauce:options", sauceOptions);
+        return capabilities;
+    }
+
     /**
      * Returns Capabilities object with LambdaTest capabilities for the specified browser and test name.
      *
@@ -20,13 +20,12 @@ SOFTWARE.
 
 package com.pages.mobile;
 
+import com.core.LocatorCache;
 import com.core.MobileActions;
 import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import io.appium.java_client.pagefactory.iOSXCUITBy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 
 /**
  * @author Dipjyoti Metia
@@ -63,7 +62,7 @@ public class SauceHomePage extends MobileActions {
 
     public SauceHomePage() {
         super();
-        PageFactory.initElements(new AppiumFieldDecorator(driverThread), this);
+        SauceHomePageBinder.bind(this, LocatorCache.of(driverThread));
     }
 
     public SauceHomePage searchDestination() {
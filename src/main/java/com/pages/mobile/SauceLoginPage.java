@@ -20,11 +20,11 @@ SOFTWARE.
 
 package com.pages.mobile;
 
+import com.core.LocatorCache;
 import com.core.MobileActions;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import io.appium.java_client.pagefactory.iOSXCUITFindBy;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 
 /**
  * @author Dipjyoti Metia
@@ -57,7 +57,7 @@ public class SauceLoginPage extends MobileActions {
 
     public SauceLoginPage() {
         super();
-        PageFactory.initElements(driverThread, this);
+        SauceLoginPageBinder.bind(this, LocatorCache.of(driverThread));
     }
 
     public void login() {
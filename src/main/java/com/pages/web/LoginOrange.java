@@ -1,27 +1,27 @@
 package com.pages.web;
 
+import com.core.LocatorCache;
 import com.core.WebActions;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 @Slf4j
 public class LoginOrange extends WebActions {
 
     @FindBy(name = "username")
-    private WebElement username;
+    WebElement username;
 
     @FindBy(name = "password")
-    private WebElement password;
+    WebElement password;
 
     @FindBy(xpath = "button[type=submit]")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     public LoginOrange() {
         super();
-        PageFactory.initElements(driverThread, this);
+        LoginOrangeBinder.bind(this, LocatorCache.of(driverThread));
     }
 
     @Step("Login step for test:{0}, for method: {method}")
@@ -24,46 +24,51 @@ SOFTWARE.
 
 package com.pages.web;
 
+import com.core.LocatorCache;
 import com.core.WebActions;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 public class LoginPage extends WebActions {
 
     @FindBy(css = "input[data-test='username']")
-    private WebElement username;
+    WebElement username;
 
     @FindBy(css = "input[data-test='password']")
-    private WebElement password;
+    WebElement password;
 
     @FindBy(css = "input[data-test='login-button']")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     //Multiple element match
     @FindAll({@FindBy(how = How.XPATH, using = "//*[@id=\"SubmitLogin\"]"),
             @FindBy(how = How.ID_OR_NAME, using = "SubmitLogin")})
-    private WebElement loginButtonLink;
+    WebElement loginButtonLink;
 
     //List of elements
     @FindBys(@FindBy(xpath = "//*[@id=\"down\"]"))
-    private List<WebElement> testDropDown;
+    List<WebElement> testDropDown;
 
     public LoginPage() {
         super();
-        PageFactory.initElements(driverThread, this);
+        LoginPageBinder.bind(this, LocatorCache.of(driverThread));
     }
 
     @Step("Login step for test:{0}, for method: {method}")
     public void Login(String tcName) {
         try {
             navigate("https://www.saucedemo.com/");
-            enter(username, "standard_user");
-            enter(password, "secret_sauce");
+            Map<WebElement, String> fields = new LinkedHashMap<>();
+            fields.put(username, "standard_user");
+            fields.put(password, "secret_sauce");
+            fillForm(fields);
             click(loginButton);
 
             captureImage(tcName);
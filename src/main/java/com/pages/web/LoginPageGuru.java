@@ -24,39 +24,44 @@ SOFTWARE.
 
 package com.pages.web;
 
+import com.core.LocatorCache;
 import com.core.WebActions;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 public class LoginPageGuru extends WebActions {
 
     @FindBy(id = "email")
-    private WebElement email;
+    WebElement email;
 
     @FindBy(id = "pass")
-    private WebElement password;
+    WebElement password;
 
     @FindBy(id = "send2")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     @FindBy(id = "advice-validate-password-pass")
-    private WebElement errorText;
+    WebElement errorText;
 
 
     public LoginPageGuru() {
         super();
-        PageFactory.initElements(driverThread, this);
+        LoginPageGuruBinder.bind(this, LocatorCache.of(driverThread));
     }
 
     public void login(String tcName) {
         try {
             navigate("http://live.guru99.com/index.php/customer/account/login/");
-            enter(email, "testnow@gmail.com");
-            enter(password, "123456");
+            Map<WebElement, String> fields = new LinkedHashMap<>();
+            fields.put(email, "testnow@gmail.com");
+            fields.put(password, "123456");
+            fillForm(fields);
             click(loginButton);
             // captureImage(tcName);
         } catch (Exception e) {
@@ -0,0 +1,47 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.pages.web;
+
+import com.core.PlaywrightActions;
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoginPagePlaywright extends PlaywrightActions {
+
+    private static final String username = "input[data-test='username']";
+    private static final String password = "input[data-test='password']";
+    private static final String loginButton = "input[data-test='login-button']";
+    private static final String inventory = "[data-test='inventory-container']";
+
+    @Step("Login step with Playwright for test:{0}, for method: {method}")
+    public void Login(String tcName) {
+        navigate("https://www.saucedemo.com/");
+        enter(username, "standard_user");
+        enter(password, "secret_sauce");
+        click(loginButton);
+        waitForElement(inventory);
+    }
+}
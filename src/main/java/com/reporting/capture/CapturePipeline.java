@@ -0,0 +1,128 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.capture;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CapturePipeline moves screenshot encoding and file writes off the test threads.
+ * <p>
+ * Test threads only grab the raw screenshot bytes and submit the work. Tasks sharing a key, e.g. the
+ * screenshots of one evidence document, run one after another in submission order, tasks with different
+ * keys run in parallel on a small pool. The number of queued tasks is bounded, a test thread submitting
+ * while the pipeline is full waits for a slot, so screenshots never pile up in memory.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class CapturePipeline {
+    private static final int WORKERS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int MAX_PENDING = 64;
+    private static final AtomicInteger threads = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(WORKERS, runnable -> {
+        Thread thread = new Thread(runnable, "capture-" + threads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Semaphore permits = new Semaphore(MAX_PENDING);
+    private static final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private CapturePipeline() {
+    }
+
+    /**
+     * Submits a task, blocks while the pipeline is full.
+     *
+     * @param key  ordering key, tasks with the same key run in submission order
+     * @param task task
+     * @return completion of the task
+     */
+    public static CompletableFuture<Void> submit(String key, Task task) {
+        permits.acquireUninterruptibly();
+        CompletableFuture<Void> future = tails.compute(key, (k, tail) -> (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail)
+                .thenRunAsync(() -> run(key, task), executor));
+        future.whenComplete((result, error) -> tails.remove(key, future));
+        return future;
+    }
+
+    /**
+     * Waits for the tasks of a key submitted so far.
+     *
+     * @param key ordering key
+     */
+    public static void await(String key) {
+        CompletableFuture<Void> tail = tails.get(key);
+        if (tail != null) {
+            tail.join();
+        }
+    }
+
+    /**
+     * Waits for all submitted tasks.
+     *
+     * @param timeout maximum time to wait
+     */
+    public static void drain(Duration timeout) {
+        try {
+            CompletableFuture.allOf(tails.values().toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Capture pipeline not drained: {}", e.getMessage());
+        }
+    }
+
+    private static void run(String key, Task task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("Capture task {} failed: {}", key, e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Capture task.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.capture;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * PerceptualHash computes a 256 bit difference hash (dHash) of an image.
+ * <p>
+ * The image is scaled down to 17x16 grey pixels and every bit records whether a pixel is brighter than
+ * its right neighbour. Images that look the same produce hashes with a small Hamming distance, regardless
+ * of PNG encoding differences.
+ *
+ * @author Dipjyoti Metia
+ */
+public final class PerceptualHash {
+    private static final int SIZE = 16;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Computes the hash of an image.
+     *
+     * @param image image
+     * @return hash as four 64 bit words
+     */
+    public static long[] of(BufferedImage image) {
+        BufferedImage grey = new BufferedImage(SIZE + 1, SIZE, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = grey.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, SIZE + 1, SIZE, null);
+        } finally {
+            graphics.dispose();
+        }
+        long[] hash = new long[SIZE * SIZE / 64];
+        int bit = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++, bit++) {
+                if (grey.getRaster().getSample(x, y, 0) > grey.getRaster().getSample(x + 1, y, 0)) {
+                    hash[bit / 64] |= 1L << (bit % 64);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the number of differing bits of two hashes.
+     *
+     * @param a hash
+     * @param b hash
+     * @return Hamming distance
+     */
+    public static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+}
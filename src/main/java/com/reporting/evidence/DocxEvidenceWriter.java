@@ -0,0 +1,109 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * DocxEvidenceWriter streams screenshots into a Word document.
+ * <p>
+ * The package parts are written directly instead of through XWPFDocument, so each picture is written
+ * once when it is added and the document body is written once on close. Repeated pictures are drawn
+ * from the same media part.
+ *
+ * @author Dipjyoti Metia
+ */
+class DocxEvidenceWriter extends ZipEvidenceWriter {
+    private static final long EMU_PER_POINT = 12_700;
+    private static final long WIDTH = 300 * EMU_PER_POINT;
+    private static final long HEIGHT = 400 * EMU_PER_POINT;
+    private static final String CONTENT_TYPES = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+            <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+            <Default Extension="xml" ContentType="application/xml"/>\
+            <Default Extension="png" ContentType="image/png"/>\
+            <Default Extension="jpeg" ContentType="image/jpeg"/>\
+            <Override PartName="/word/document.xml" \
+            ContentType="application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml"/>\
+            </Types>""";
+    private static final String PACKAGE_RELS = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+            <Relationship Id="rId1" Target="word/document.xml" \
+            Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument"/>\
+            </Relationships>""";
+    private static final String PICTURE = """
+            <w:p><w:r><w:t xml:space="preserve">%2$s</w:t></w:r></w:p>\
+            <w:p><w:r><w:drawing><wp:inline distT="0" distB="0" distL="0" distR="0">\
+            <wp:extent cx="%3$d" cy="%4$d"/><wp:docPr id="%1$d" name="Picture %1$d"/>\
+            <a:graphic><a:graphicData uri="http://schemas.openxmlformats.org/drawingml/2006/picture">\
+            <pic:pic><pic:nvPicPr><pic:cNvPr id="%1$d" name="%5$s"/><pic:cNvPicPr/></pic:nvPicPr>\
+            <pic:blipFill><a:blip r:embed="rId%6$d"/><a:stretch><a:fillRect/></a:stretch></pic:blipFill>\
+            <pic:spPr><a:xfrm><a:off x="0" y="0"/><a:ext cx="%3$d" cy="%4$d"/></a:xfrm>\
+            <a:prstGeom prst="rect"><a:avLst/></a:prstGeom></pic:spPr></pic:pic>\
+            </a:graphicData></a:graphic></wp:inline></w:drawing></w:r></w:p>""";
+    private final StringBuilder body = new StringBuilder();
+    private final StringBuilder relationships = new StringBuilder();
+    private int drawings;
+
+    DocxEvidenceWriter(Path path, EvidenceSettings settings) throws IOException {
+        super(path, settings);
+        deflate("[Content_Types].xml", CONTENT_TYPES);
+        deflate("_rels/.rels", PACKAGE_RELS);
+    }
+
+    @Override
+    String entryName(ScreenshotStore.Picture picture) {
+        return "word/media/" + picture.fileName();
+    }
+
+    @Override
+    void append(String caption, ScreenshotStore.Picture picture) {
+        int id = ++drawings;
+        body.append(String.format(PICTURE, id, escape(caption), WIDTH, HEIGHT, picture.fileName(), picture.id()));
+        if (picture.data() != null) {
+            relationships.append("<Relationship Id=\"rId").append(picture.id())
+                    .append("\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/image\"")
+                    .append(" Target=\"media/").append(picture.fileName()).append("\"/>");
+        }
+    }
+
+    @Override
+    void finish() throws IOException {
+        deflate("word/document.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <w:document xmlns:w="http://schemas.openxmlformats.org/wordprocessingml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships" \
+                xmlns:wp="http://schemas.openxmlformats.org/drawingml/2006/wordprocessingDrawing" \
+                xmlns:a="http://schemas.openxmlformats.org/drawingml/2006/main" \
+                xmlns:pic="http://schemas.openxmlformats.org/drawingml/2006/picture"><w:body>""" + body + "</w:body></w:document>");
+        deflate("word/_rels/document.xml.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">""" + relationships + "</Relationships>");
+    }
+}
@@ -0,0 +1,114 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import com.reporting.capture.CapturePipeline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evidence collects the screenshots of each test case into an evidence document.
+ * <p>
+ * The document of a test case is opened with its first screenshot under
+ * ScreensDoc/&lt;test case&gt;/Run_&lt;timestamp&gt;/ and completed by {@link #finish(String)}.
+ * Pictures are written by the {@link CapturePipeline} in capture order, the test thread only takes the
+ * screenshot. Documents still open when the JVM exits are completed by a shutdown hook.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class Evidence {
+    private static final Map<String, EvidenceWriter> writers = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Evidence::finishAll));
+    }
+
+    private Evidence() {
+    }
+
+    /**
+     * Adds a screenshot to the evidence document of a test case.
+     *
+     * @param testcaseName test case name
+     * @param png          PNG image
+     * @param settings     document settings, used when the document is opened
+     */
+    public static void capture(String testcaseName, byte[] png, EvidenceSettings settings) {
+        EvidenceWriter writer = writers.computeIfAbsent(testcaseName, name -> open(name, settings));
+        if (writer == null) {
+            return;
+        }
+        String caption = testcaseName + " " + new SimpleDateFormat("HH:mm:ss.SSS").format(new Date());
+        CapturePipeline.submit(key(testcaseName), () -> writer.add(caption, png));
+    }
+
+    /**
+     * Completes the evidence document of a test case.
+     *
+     * @param testcaseName test case name
+     * @return document path or null when no screenshot was captured
+     */
+    public static Path finish(String testcaseName) {
+        EvidenceWriter writer = writers.remove(testcaseName);
+        if (writer == null) {
+            log.info("No screenshots captured for {}", testcaseName);
+            return null;
+        }
+        CapturePipeline.submit(key(testcaseName), () -> {
+            writer.close();
+            log.info("Evidence document created: {}", writer.getPath());
+        }).join();
+        return writer.getPath();
+    }
+
+    /**
+     * Completes all open evidence documents.
+     */
+    public static void finishAll() {
+        writers.keySet().forEach(Evidence::finish);
+    }
+
+    private static String key(String testcaseName) {
+        return "evidence:" + testcaseName;
+    }
+
+    private static EvidenceWriter open(String testcaseName, EvidenceSettings settings) {
+        Path directory = Path.of("ScreensDoc", testcaseName, "Run_" + new SimpleDateFormat("yyyy.MM.dd_hh.mm").format(new Date()));
+        try {
+            return settings.format().open(directory, testcaseName, settings);
+        } catch (IOException e) {
+            log.error("Unable to create evidence document in {}: {}", directory, e.getMessage());
+            return null;
+        }
+    }
+}
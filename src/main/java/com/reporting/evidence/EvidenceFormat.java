@@ -0,0 +1,79 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Evidence document formats.
+ *
+ * @author Dipjyoti Metia
+ */
+public enum EvidenceFormat {
+    /**
+     * Word document with one picture per screenshot.
+     */
+    DOCX("docx"),
+    /**
+     * Zip archive with the PNG files and an HTML index.
+     */
+    HTML("zip");
+
+    private final String extension;
+
+    EvidenceFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Resolves a configured format name.
+     *
+     * @param name format name, "docx" or "html"
+     * @return format
+     */
+    public static EvidenceFormat of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Opens a writer.
+     *
+     * @param directory output directory
+     * @param name      document name without extension
+     * @param settings  evidence settings
+     * @return writer
+     * @throws IOException when the file cannot be created
+     */
+    public EvidenceWriter open(Path directory, String name, EvidenceSettings settings) throws IOException {
+        Path path = directory.resolve(name + "." + extension);
+        return switch (this) {
+            case DOCX -> new DocxEvidenceWriter(path, settings);
+            case HTML -> new HtmlEvidenceWriter(path, name, settings);
+        };
+    }
+}
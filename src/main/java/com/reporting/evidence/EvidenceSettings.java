@@ -0,0 +1,51 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import com.config.AppConfig;
+
+/**
+ * Evidence document settings.
+ *
+ * @param format   document format
+ * @param jpeg     store pictures as JPEG instead of the original PNG
+ * @param quality  JPEG quality between 0 and 1
+ * @param distance maximum perceptual hash distance of pictures stored only once, -1 stores only exact duplicates once
+ * @author Dipjyoti Metia
+ */
+public record EvidenceSettings(EvidenceFormat format, boolean jpeg, float quality, int distance) {
+
+    /**
+     * Reads the settings of the evidence block in application.conf.
+     *
+     * @param config application config
+     * @return settings
+     */
+    public static EvidenceSettings of(AppConfig config) {
+        return new EvidenceSettings(EvidenceFormat.of(config.getEvidenceFormat()), "jpeg".equalsIgnoreCase(config.getEvidenceImage()),
+                config.getEvidenceJpegQuality(), config.getEvidenceDedupDistance());
+    }
+}
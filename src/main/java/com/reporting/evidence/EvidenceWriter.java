@@ -0,0 +1,57 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * EvidenceWriter appends screenshots to an evidence document as they are taken.
+ * <p>
+ * Pictures are streamed to the output file when added and not kept in memory, the document is
+ * completed when the writer is closed.
+ *
+ * @author Dipjyoti Metia
+ */
+public interface EvidenceWriter extends Closeable {
+
+    /**
+     * Appends a screenshot.
+     *
+     * @param caption caption shown with the picture
+     * @param png     PNG image
+     * @throws IOException when the picture cannot be written
+     */
+    void add(String caption, byte[] png) throws IOException;
+
+    /**
+     * Returns the evidence file.
+     *
+     * @return path
+     */
+    Path getPath();
+}
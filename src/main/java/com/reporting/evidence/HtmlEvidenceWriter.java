@@ -0,0 +1,64 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * HtmlEvidenceWriter streams screenshots into a zip archive with an index.html listing them in order.
+ * It avoids the Word packaging entirely and opens in any browser once extracted. Repeated pictures
+ * reference the same file.
+ *
+ * @author Dipjyoti Metia
+ */
+class HtmlEvidenceWriter extends ZipEvidenceWriter {
+    private final String title;
+    private final StringBuilder index = new StringBuilder();
+
+    HtmlEvidenceWriter(Path path, String title, EvidenceSettings settings) throws IOException {
+        super(path, settings);
+        this.title = escape(title);
+    }
+
+    @Override
+    String entryName(ScreenshotStore.Picture picture) {
+        return picture.fileName();
+    }
+
+    @Override
+    void append(String caption, ScreenshotStore.Picture picture) {
+        index.append("<figure><img src=\"").append(picture.fileName()).append("\" alt=\"").append(escape(caption))
+                .append("\"><figcaption>").append(escape(caption)).append("</figcaption></figure>\n");
+    }
+
+    @Override
+    void finish() throws IOException {
+        deflate("index.html", "<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>" + title + "</title>"
+                + "<style>img{max-width:100%;border:1px solid #ccc}figure{margin:0 0 24px}</style></head>\n<body><h1>"
+                + title + "</h1>\n" + index + "</body></html>\n");
+    }
+}
@@ -0,0 +1,198 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import com.reporting.capture.PerceptualHash;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScreenshotStore stores each distinct screenshot of an evidence document once.
+ * <p>
+ * Screenshots are addressed by content: byte identical screenshots resolve to the stored picture, so a
+ * document references it again instead of embedding another copy. When a perceptual distance is configured,
+ * a screenshot whose perceptual hash is within that distance of a stored one is merged too, but only when
+ * every 8x8 pixel cell of both screenshots has nearly the same brightness: the hash alone cannot tell apart
+ * frames that differ in a field value or a validation message. New pictures are optionally re-encoded as JPEG.
+ *
+ * @author Dipjyoti Metia
+ */
+final class ScreenshotStore {
+    private static final int CELL = 8;
+    private static final int CELL_TOLERANCE = 2;
+    private final EvidenceSettings settings;
+    private final Map<String, Picture> digests = new HashMap<>();
+    private final List<Picture> pictures = new ArrayList<>();
+
+    ScreenshotStore(EvidenceSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Resolves a screenshot to a stored picture.
+     *
+     * @param png PNG screenshot
+     * @return picture, {@link Picture#data()} is null when the picture is already stored
+     * @throws IOException when the screenshot cannot be decoded or encoded
+     */
+    Picture put(byte[] png) throws IOException {
+        String digest = sha256(png);
+        Picture known = digests.get(digest);
+        if (known != null) {
+            return known.reference();
+        }
+        // only the perceptual check and the JPEG encoding need the pixels
+        BufferedImage image = settings.distance() >= 0 || settings.jpeg() ? ImageIO.read(new ByteArrayInputStream(png)) : null;
+        boolean perceptual = image != null && settings.distance() >= 0;
+        long[] hash = perceptual ? PerceptualHash.of(image) : null;
+        Cells cells = perceptual ? Cells.of(image) : null;
+        if (perceptual) {
+            for (Picture picture : pictures) {
+                if (picture.hash() != null && PerceptualHash.distance(hash, picture.hash()) <= settings.distance()
+                        && cells.matches(picture.cells())) {
+                    digests.put(digest, picture);
+                    return picture.reference();
+                }
+            }
+        }
+        boolean jpeg = settings.jpeg() && image != null;
+        Picture picture = new Picture(pictures.size() + 1, jpeg ? "jpeg" : "png", hash, cells, jpeg ? jpeg(image) : png);
+        pictures.add(picture.reference());
+        digests.put(digest, picture.reference());
+        return picture;
+    }
+
+    private byte[] jpeg(BufferedImage image) throws IOException {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(settings.quality());
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stored picture.
+     *
+     * @param id        picture number within the document
+     * @param extension file extension
+     * @param hash      perceptual hash, null when perceptual merging is off or the screenshot could not be decoded
+     * @param cells     brightness of the 8x8 pixel cells, null like the hash
+     * @param data      encoded picture, null for a reference to an already stored picture
+     */
+    record Picture(int id, String extension, long[] hash, Cells cells, byte[] data) {
+        Picture reference() {
+            return new Picture(id, extension, hash, cells, null);
+        }
+
+        String fileName() {
+            return "image" + id + "." + extension;
+        }
+    }
+
+    /**
+     * Mean brightness of every 8x8 pixel cell of a screenshot.
+     *
+     * @param width  image width
+     * @param height image height
+     * @param grey   cell brightness, row by row
+     */
+    record Cells(int width, int height, byte[] grey) {
+        static Cells of(BufferedImage image) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int columns = (width + CELL - 1) / CELL;
+            int rows = (height + CELL - 1) / CELL;
+            int[] sums = new int[columns * rows];
+            int[] counts = new int[columns * rows];
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                int offset = (y / CELL) * columns;
+                for (int x = 0; x < width; x++) {
+                    int rgb = row[x];
+                    sums[offset + x / CELL] += (((rgb >> 16) & 0xff) * 299 + ((rgb >> 8) & 0xff) * 587 + (rgb & 0xff) * 114) / 1000;
+                    counts[offset + x / CELL]++;
+                }
+            }
+            byte[] grey = new byte[sums.length];
+            for (int i = 0; i < grey.length; i++) {
+                grey[i] = (byte) (sums[i] / counts[i]);
+            }
+            return new Cells(width, height, grey);
+        }
+
+        boolean matches(Cells other) {
+            if (other == null || width != other.width || height != other.height) {
+                return false;
+            }
+            for (int i = 0; i < grey.length; i++) {
+                if (Math.abs((grey[i] & 0xff) - (other.grey[i] & 0xff)) > CELL_TOLERANCE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.evidence;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Base class of the evidence writers producing zip based documents.
+ * <p>
+ * Pictures are stored uncompressed, PNG and JPEG data is already compressed, and written to the archive
+ * right away. Each distinct picture is stored once, see {@link ScreenshotStore}. Subclasses only keep the
+ * small index markup in memory and write it on close.
+ *
+ * @author Dipjyoti Metia
+ */
+abstract class ZipEvidenceWriter implements EvidenceWriter {
+    private final Path path;
+    private final ZipOutputStream zip;
+    private final ScreenshotStore screenshots;
+    private boolean closed;
+
+    ZipEvidenceWriter(Path path, EvidenceSettings settings) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.path = path;
+        this.screenshots = new ScreenshotStore(settings);
+        this.zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024));
+    }
+
+    @Override
+    public synchronized void add(String caption, byte[] png) throws IOException {
+        ScreenshotStore.Picture picture = screenshots.put(png);
+        if (picture.data() != null) {
+            store(entryName(picture), picture.data());
+        }
+        append(caption, picture);
+    }
+
+    /**
+     * Returns the archive entry name of a picture.
+     *
+     * @param picture picture
+     * @return entry name
+     */
+    abstract String entryName(ScreenshotStore.Picture picture);
+
+    /**
+     * Adds a picture to the document index.
+     *
+     * @param caption caption
+     * @param picture picture, stored in the archive before
+     */
+    abstract void append(String caption, ScreenshotStore.Picture picture);
+
+    /**
+     * Writes an entry without compression.
+     *
+     * @param name  entry name
+     * @param bytes content
+     * @throws IOException when the entry cannot be written
+     */
+    void store(String name, byte[] bytes) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCompressedSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    /**
+     * Writes a compressed text entry.
+     *
+     * @param name    entry name
+     * @param content content
+     * @throws IOException when the entry cannot be written
+     */
+    void deflate(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    /**
+     * Writes the entries completing the document.
+     *
+     * @throws IOException when an entry cannot be written
+     */
+    abstract void finish() throws IOException;
+
+    @Override
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            finish();
+        } finally {
+            zip.close();
+        }
+    }
+
+    static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -27,14 +27,24 @@ package com.reporting.extentreport;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class ExtentManager {
+    private static final Path REPORT = Paths.get(System.getProperty("user.dir"), "Reports", "ExtentReportResults.html");
     private static ExtentReports extent;
 
+    /**
+     * @return location of the HTML report
+     */
+    public static Path getReportFile() {
+        return REPORT;
+    }
+
     public synchronized static ExtentReports getReporter() {
         if (extent == null) {
             //Set HTML reporting file location
-            String workingDir = System.getProperty("user.dir");
-            ExtentSparkReporter htmlReporter = new ExtentSparkReporter(workingDir + "\\Reports\\ExtentReportResults.html");
+            ExtentSparkReporter htmlReporter = new ExtentSparkReporter(REPORT.toString());
             extent = new ExtentReports();
             extent.attachReporter(htmlReporter);
 //            extent.attachReporter(workingDir + "\\Reports\\ExtentReportResults.html", true);
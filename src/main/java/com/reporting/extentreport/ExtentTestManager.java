@@ -26,24 +26,100 @@ package com.reporting.extentreport;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Registry of the Extent test of every running TestNG test.
+ * <p>
+ * Tests are keyed by the identity of their {@link ITestResult}, the methods without a result use the one
+ * TestNG reports for the calling thread. Threads without a current result, e.g. helper threads started by a
+ * test, fall back to the test last started on that thread. No method locks, parallel tests only share the
+ * concurrent map, and nothing depends on thread ids, so platform and virtual threads work alike.
+ */
 public class ExtentTestManager {
-    static Map<Object, Object> extentTestMap = new HashMap<>();
-    static ExtentReports extent = ExtentManager.getReporter();
+    private static final Map<Key, ExtentTest> tests = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ExtentTest> current = new ThreadLocal<>();
+    private static final ExtentReports extent = ExtentManager.getReporter();
+
+    public static ExtentTest getTest() {
+        return getTest(Reporter.getCurrentTestResult());
+    }
+
+    /**
+     * Returns the Extent test of a TestNG test.
+     *
+     * @param result test result, null for the test of the calling thread
+     * @return Extent test, null when none was started
+     */
+    public static ExtentTest getTest(ITestResult result) {
+        ExtentTest test = result == null ? null : tests.get(new Key(result));
+        return test != null ? test : current.get();
+    }
+
+    public static void endTest() {
+        endTest(Reporter.getCurrentTestResult());
+    }
+
+    /**
+     * Removes the Extent test of a TestNG test from the report. The test stays registered, so listeners still
+     * resolve it until {@link #finishTest(ITestResult)}.
+     *
+     * @param result test result, null for the test of the calling thread
+     */
+    public static void endTest(ITestResult result) {
+        ExtentTest test = getTest(result);
+        if (test != null) {
+            extent.removeTest(test);
+        }
+    }
 
-    public static synchronized ExtentTest getTest() {
-        return (ExtentTest) extentTestMap.get((int) Thread.currentThread().getId());
+    /**
+     * Forgets the Extent test of a finished TestNG test, the test stays in the report. The calling thread keeps
+     * it as its last test until it starts the next one.
+     *
+     * @param result test result
+     */
+    public static void finishTest(ITestResult result) {
+        if (result != null) {
+            tests.remove(new Key(result));
+        }
     }
 
-    public static synchronized void endTest() {
-        extent.removeTest((ExtentTest) extentTestMap.get((int) Thread.currentThread().getId()));
+    public static void startTest(String testName, String desc) {
+        startTest(Reporter.getCurrentTestResult(), testName, desc);
     }
 
-    public static synchronized void startTest(String testName, String desc) {
+    /**
+     * Starts the Extent test of a TestNG test.
+     *
+     * @param result   test result, null to bind the test to the calling thread only
+     * @param testName test name
+     * @param desc     description
+     */
+    public static void startTest(ITestResult result, String testName, String desc) {
         ExtentTest test = extent.createTest(testName, desc);
-        extentTestMap.put((int) Thread.currentThread().getId(), test);
+        if (result != null) {
+            tests.put(new Key(result), test);
+        }
+        current.set(test);
+    }
+
+    /**
+     * Identity of a test result, results are not compared by value.
+     */
+    private record Key(ITestResult result) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && key.result == result;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(result);
+        }
     }
 }
@@ -0,0 +1,74 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.listeners;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.reporting.capture.CapturePipeline;
+import com.reporting.extentreport.ExtentManager;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Attaches failure screenshots to the Extent report.
+ * <p>
+ * Only the screenshot bytes are taken on the test thread, the report references the file by a path relative
+ * to the report file and the file is written next to the report by the {@link CapturePipeline} before the
+ * report is flushed.
+ *
+ * @author Dipjyoti Metia
+ */
+final class FailureScreenshot {
+    private static final Path DIRECTORY = ExtentManager.getReportFile().getParent().resolve("screenshots");
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private FailureScreenshot() {
+    }
+
+    /**
+     * Logs a failure with a screenshot of the driver.
+     *
+     * @param test   report test
+     * @param driver driver
+     * @param name   file name prefix, usually the test method name
+     */
+    static void attach(ExtentTest test, WebDriver driver, String name) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        Path file = DIRECTORY.resolve(name + "_" + sequence.incrementAndGet() + ".png");
+        CapturePipeline.submit(file.toString(), () -> {
+            Files.createDirectories(DIRECTORY);
+            Files.write(file, png);
+        });
+        String link = ExtentManager.getReportFile().getParent().relativize(file).toString().replace('\\', '/');
+        test.log(Status.FAIL, "Test Failed", MediaEntityBuilder.createScreenCaptureFromPath(link).build());
+    }
+}
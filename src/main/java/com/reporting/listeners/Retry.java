@@ -24,12 +24,8 @@ SOFTWARE.
 
 package com.reporting.listeners;
 
-import com.aventstack.extentreports.MediaEntityBuilder;
-import com.aventstack.extentreports.Status;
 import com.core.DriverManager;
 import com.reporting.extentreport.ExtentTestManager;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
@@ -66,8 +62,7 @@ public class Retry extends DriverManager implements IRetryAnalyzer {
         try {
             Object testClass = iTestResult.getInstance();
             this.driverThread = ((DriverManager) testClass).getWebDriver();
-            String base64Screenshot = "data:image/png;base64," + ((TakesScreenshot) driverThread).getScreenshotAs(OutputType.BASE64);
-            ExtentTestManager.getTest().log(Status.FAIL, "Test Failed", MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
+            FailureScreenshot.attach(ExtentTestManager.getTest(iTestResult), driverThread, iTestResult.getMethod().getMethodName());
         } catch (Exception e) {
             e.printStackTrace();
         }
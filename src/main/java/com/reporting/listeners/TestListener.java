@@ -24,21 +24,29 @@ SOFTWARE.
 
 package com.reporting.listeners;
 
-import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.core.DriverManager;
 import com.logging.TestStatus;
+import com.reporting.capture.CapturePipeline;
 import com.reporting.extentreport.ExtentManager;
 import com.reporting.extentreport.ExtentTestManager;
+import com.reporting.performance.CommandTimings;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
 @Slf4j
-public class TestListener extends DriverManager implements ITestListener {
+public class TestListener extends DriverManager implements ITestListener, ISuiteListener {
+    private static final Path COMMAND_TIMINGS = Paths.get("Reports", "performance", "commands.json");
 
     private TestStatus testStatus;
 
@@ -46,6 +54,23 @@ public class TestListener extends DriverManager implements ITestListener {
         return iTestResult.getMethod().getConstructorOrMethod().getName();
     }
 
+    @Override
+    public void onStart(ISuite suite) {
+        if (getAppConfig().isCommandTimings() && getAppConfig().getCommandTimingsLive() > 0) {
+            CommandTimings.startLive(COMMAND_TIMINGS, Duration.ofSeconds(getAppConfig().getCommandTimingsLive()));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        CommandTimings.stopLive();
+        try {
+            CommandTimings.write(COMMAND_TIMINGS);
+        } catch (IOException e) {
+            log.error("Command timings not written: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void onStart(ITestContext iTestContext) {
         log.info("I am in onStart method " + iTestContext.getName());
@@ -55,7 +80,7 @@ public class TestListener extends DriverManager implements ITestListener {
     @Override
     public void onFinish(ITestContext iTestContext) {
         log.info("I am in onFinish method " + iTestContext.getName());
-        ExtentTestManager.endTest();
+        CapturePipeline.drain(Duration.ofMinutes(2));
         ExtentManager.getReporter().flush();
     }
 
@@ -63,33 +88,50 @@ public class TestListener extends DriverManager implements ITestListener {
     public void onTestStart(ITestResult iTestResult) {
         this.testStatus = new TestStatus();
         log.info("Test '{}' started", getTestMethodName(iTestResult));
-        ExtentTestManager.startTest(iTestResult.getMethod().getMethodName(), "");
+        ExtentTestManager.startTest(iTestResult, iTestResult.getMethod().getMethodName(), "");
     }
 
     @Override
     public void onTestSuccess(ITestResult iTestResult) {
         //this.sendStatus(iTestResult,"PASS");
         log.info("Test '{}' succeeded", getTestMethodName(iTestResult));
-        ExtentTestManager.getTest().log(Status.PASS, "Test passed");
+        ExtentTest test = ExtentTestManager.getTest(iTestResult);
+        if (test != null) {
+            test.log(Status.PASS, "Test passed");
+        }
+        ExtentTestManager.finishTest(iTestResult);
     }
 
     @Override
     public void onTestFailure(ITestResult iTestResult) {
         //this.sendStatus(iTestResult,"FAIL");
         log.error("Test '{}' failed", getTestMethodName(iTestResult));
-        Object testClass = iTestResult.getInstance();
-        this.driverThread = ((DriverManager) testClass).getWebDriver();
-        String base64Screenshot = "data:image/png;base64," + ((TakesScreenshot) driverThread).
-                getScreenshotAs(OutputType.BASE64);
-        ExtentTestManager.getTest().log(Status.FAIL, "Test Failed",
-                MediaEntityBuilder.createScreenCaptureFromBase64String(base64Screenshot).build());
+        try {
+            ExtentTest test = ExtentTestManager.getTest(iTestResult);
+            if (test == null) {
+                return;
+            }
+            this.driverThread = iTestResult.getInstance() instanceof DriverManager testClass
+                    ? testClass.getWebDriver() : null;
+            if (driverThread != null) {
+                FailureScreenshot.attach(test, driverThread, getTestMethodName(iTestResult));
+            } else {
+                test.log(Status.FAIL, "Test Failed");
+            }
+        } finally {
+            ExtentTestManager.finishTest(iTestResult);
+        }
     }
 
     @Override
     public void onTestSkipped(ITestResult iTestResult) {
         //this.sendStatus(iTestResult,"SKIP");
         log.warn("Test '{}' skipped", getTestMethodName(iTestResult));
-        ExtentTestManager.getTest().log(Status.SKIP, "Test Skipped");
+        ExtentTest test = ExtentTestManager.getTest(iTestResult);
+        if (test != null) {
+            test.log(Status.SKIP, "Test Skipped");
+        }
+        ExtentTestManager.finishTest(iTestResult);
     }
 
     @Override
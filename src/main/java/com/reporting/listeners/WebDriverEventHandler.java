@@ -1,99 +1,145 @@
 package com.reporting.listeners;
 
-import lombok.Setter;
+import com.reporting.performance.CommandTimings;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.events.WebDriverListener;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Listener of sessions wrapped in an EventFiringDecorator.
+ * <p>
+ * Every call on the driver, its elements, navigation, options and target locator is timed and recorded in
+ * {@link CommandTimings} under the name of the command, e.g. {@code WebElement.click}. The event log only
+ * uses what the decorator passes in, no hook sends a command of its own to the browser.
+ */
 @Slf4j
 public class WebDriverEventHandler implements WebDriverListener {
-    @Setter
-    public static String fieldAttribute = "placeholder";
-
-    private static String getElementName(WebElement element) {
-        String elementText = element.getText();
-        return elementText.isBlank() ? getLocatorText(element) : elementText;
-    }
+    private static final Pattern LOCATOR = Pattern.compile("->\\s(.*)(?=])");
+    private static final Map<Method, String> commands = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Calls> calls = ThreadLocal.withInitial(Calls::new);
 
     private static String getLocatorText(WebElement element) {
         String elementDescription = element.toString();
-        Matcher matcher = Pattern.compile("->\\s(.*)(?=])").matcher(elementDescription);
+        Matcher matcher = LOCATOR.matcher(elementDescription);
         return matcher.find() && matcher.groupCount() > 0
                 ? matcher.group(1)
                 : elementDescription;
     }
 
-    private static void logEvent(String message) {
-        log.info(message);
+    private static String command(Method method) {
+        String command = commands.get(method);
+        if (command == null) {
+            command = commands.computeIfAbsent(method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        }
+        return command;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        calls.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        long start = calls.get().pop();
+        if (start != 0) {
+            CommandTimings.record(command(method), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        long start = calls.get().pop();
+        if (start != 0) {
+            CommandTimings.record(command(method) + ".error", System.nanoTime() - start);
+        }
     }
 
     @Override
     public void afterGetTitle(WebDriver driver, String result) {
-        logEvent("Page title is [" + result + "]");
+        log.info("Page title is [{}]", result);
     }
 
     @Override
     public void beforeGet(WebDriver driver, String url) {
-        logEvent("Opening URL [" + url + "]");
+        log.info("Opening URL [{}]", url);
     }
 
     @Override
     public void beforeTo(WebDriver.Navigation navigation, String url) {
-        logEvent("Navigating to [" + url + "]");
+        log.info("Navigating to [{}]", url);
     }
 
     @Override
     public void beforeClick(WebElement element) {
-        String elementName = getElementName(element);
-        logEvent("Clicking on " + elementName);
+        if (log.isInfoEnabled()) {
+            log.info("Clicking on {}", getLocatorText(element));
+        }
     }
 
     @Override
     public void beforeClear(WebElement element) {
-        logEvent("Clearing " + element.getAttribute(fieldAttribute));
+        if (log.isInfoEnabled()) {
+            log.info("Clearing {}", getLocatorText(element));
+        }
     }
 
     @Override
     public void beforeSendKeys(WebElement element, CharSequence... keysToSend) {
-        log.debug("Entering Text using locator " + getLocatorText(element));
-
-        if (keysToSend != null) {
-            Optional<CharSequence> keyChar = Arrays.stream(keysToSend).filter(Keys.class::isInstance).findFirst();
-
-            if (keyChar.isPresent()) {
-                Arrays.stream(Keys.values()).filter(key -> key.equals(keyChar.get()))
-                        .findFirst().ifPresent(key -> logEvent(key.name() + " Key Pressed"));
-            } else {
-                logEvent("Entering Text " + Arrays.toString(keysToSend) +
-                        " in " + element.getAttribute(fieldAttribute) + " Field");
-            }
+        if (keysToSend == null || !log.isInfoEnabled()) {
+            return;
         }
+        Arrays.stream(keysToSend).filter(Keys.class::isInstance).findFirst().ifPresentOrElse(
+                key -> log.info("{} Key Pressed", ((Keys) key).name()),
+                () -> log.info("Entering Text {} in {}", Arrays.toString(keysToSend), getLocatorText(element)));
     }
 
     @Override
     public void afterQuit(WebDriver driver) {
-        logEvent("Browser closed");
+        log.info("Browser closed");
     }
 
     @Override
     public void afterRefresh(WebDriver.Navigation navigation) {
-        logEvent("Browser Refreshed");
+        log.info("Browser Refreshed");
     }
 
     @Override
     public void afterMaximize(WebDriver.Window window) {
-        logEvent("Browser Maximized");
+        log.info("Browser Maximized");
     }
 
     @Override
     public void afterGetWindowHandle(WebDriver driver, String result) {
-        logEvent("Switched to window " + result);
+        log.info("Switched to window {}", result);
+    }
+
+    /**
+     * Start times of the calls in progress on one thread, calls nest when a listener or a command calls the driver.
+     */
+    private static final class Calls {
+        private long[] starts = new long[8];
+        private int depth;
+
+        void push(long start) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, depth * 2);
+            }
+            starts[depth++] = start;
+        }
+
+        long pop() {
+            return depth == 0 ? 0 : starts[--depth];
+        }
     }
 }
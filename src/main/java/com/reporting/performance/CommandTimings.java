@@ -0,0 +1,168 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommandTimings collects the latency of WebDriver commands of all sessions, one {@link LatencyHistogram}
+ * per command such as {@code WebElement.click} or {@code WebDriver.findElement}.
+ * <p>
+ * Commands are recorded by the {@link com.reporting.listeners.WebDriverEventHandler}. The report lists per
+ * command the number of calls, the total time spent and latency percentiles, sorted by total time, so the
+ * commands dominating grid time come first. It is written at the end of the suite and, when enabled, every
+ * few seconds while the suite runs.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class CommandTimings {
+    private static final Json json = new Json();
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService live;
+
+    private CommandTimings() {
+    }
+
+    /**
+     * Records the latency of a command.
+     *
+     * @param command command name
+     * @param nanos   latency in nanoseconds
+     */
+    public static void record(String command, long nanos) {
+        LatencyHistogram histogram = histograms.get(command);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(command, name -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns the histogram of a command.
+     *
+     * @param command command name
+     * @return histogram, null when the command was not recorded
+     */
+    public static LatencyHistogram of(String command) {
+        return histograms.get(command);
+    }
+
+    /**
+     * Writes the report periodically until {@link #stopLive()}.
+     *
+     * @param file   report file
+     * @param period time between two reports
+     */
+    public static synchronized void startLive(Path file, Duration period) {
+        if (live != null) {
+            return;
+        }
+        live = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-timings");
+            thread.setDaemon(true);
+            return thread;
+        });
+        live.scheduleWithFixedDelay(() -> {
+            try {
+                write(file);
+            } catch (IOException e) {
+                log.error("Command timings not written: {}", e.getMessage());
+            }
+        }, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic report and waits for a report being written, so a following {@link #write(Path)}
+     * does not race with it.
+     */
+    public static synchronized void stopLive() {
+        if (live != null) {
+            live.shutdown();
+            try {
+                if (!live.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Periodic command timings report still running");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            live = null;
+        }
+    }
+
+    /**
+     * Writes the report as JSON, nothing is written before the first command.
+     *
+     * @param file report file
+     * @throws IOException when the file cannot be written
+     */
+    public static void write(Path file) throws IOException {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, LatencyHistogram>> commands = histograms.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().sum()).reversed())
+                .toList();
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram> command : commands) {
+            LatencyHistogram histogram = command.getValue();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.count());
+            summary.put("totalMs", histogram.sum() / 1000);
+            summary.put("meanMs", Math.round(histogram.mean()) / 1000.0);
+            for (double percentile : PERCENTILES) {
+                summary.put("p" + (int) percentile + "Ms", histogram.percentile(percentile) / 1000.0);
+            }
+            summary.put("maxMs", histogram.max() / 1000.0);
+            report.put(command.getKey(), summary);
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            json.newOutput(writer).setPrettyPrint(true).write(report);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        log.debug("Command timings written to {}", file);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.performance;
+
+import com.config.AppConfig;
+
+/**
+ * Streaming HAR capture settings.
+ *
+ * @param streaming    write entries to disk as they complete instead of keeping the whole HAR in memory
+ * @param maxBodyBytes bodies are cut after this many bytes, 0 drops bodies
+ * @param hashBodies   store the SHA-256 of a body instead of its content
+ * @author Dipjyoti Metia
+ */
+public record HarSettings(boolean streaming, int maxBodyBytes, boolean hashBodies) {
+
+    /**
+     * Reads the settings of the performance block in application.conf.
+     *
+     * @param config application config
+     * @return settings
+     */
+    public static HarSettings of(AppConfig config) {
+        return new HarSettings(config.isHarStreaming(), config.getHarMaxBodyBytes(), config.isHarHashBodies());
+    }
+}
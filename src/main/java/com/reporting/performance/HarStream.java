@@ -0,0 +1,353 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.performance;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.lightbody.bmp.BrowserMobProxy;
+import net.lightbody.bmp.core.har.HarContent;
+import net.lightbody.bmp.core.har.HarEntry;
+import net.lightbody.bmp.core.har.HarNameValuePair;
+import net.lightbody.bmp.core.har.HarNameVersion;
+import net.lightbody.bmp.core.har.HarPage;
+import net.lightbody.bmp.core.har.HarPostData;
+import net.lightbody.bmp.core.har.HarRequest;
+import net.lightbody.bmp.core.har.HarResponse;
+import net.lightbody.bmp.core.har.HarTimings;
+import net.lightbody.bmp.util.HttpMessageContents;
+import net.lightbody.bmp.util.HttpMessageInfo;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HarStream records the traffic of a BrowserMob proxy as HAR files written while the test runs.
+ * <p>
+ * Request and response filters turn every exchange into a HAR entry as soon as its response arrived, the
+ * entry is serialized on the writer thread of the stream and appended to the file of the current page, nothing
+ * but the exchanges in flight and a bounded queue of entries is kept in memory. A proxy thread finding the queue
+ * full waits a short while for the writer; an entry still not queued then is dropped, and every file that lost
+ * entries says how many in its log comment. Bodies are cut after a configurable size or replaced by their
+ * SHA-256, and {@link #newPage(String)} closes the current file and starts a new one, so each page of a long
+ * session ends up in its own small HAR.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class HarStream {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final AtomicInteger streams = new AtomicInteger();
+    private static final int MAX_QUEUED = 1024;
+    private static final long OFFER_TIMEOUT_MILLIS = 2_000;
+    private static final Write STOP = () -> {
+    };
+
+    private final Path directory;
+    private final String name;
+    private final HarSettings settings;
+    private final BlockingQueue<Write> queue = new LinkedBlockingQueue<>(MAX_QUEUED);
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer = new Thread(this::drain, "har-writer-" + streams.incrementAndGet());
+    private final Map<HttpRequest, Pending> pending = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger pages = new AtomicInteger();
+    private volatile String page;
+    private volatile boolean closed;
+    private JsonGenerator generator;
+    private String fileTitle;
+    private int written;
+    private long droppedReported;
+
+    private HarStream(Path directory, String page, HarSettings settings) {
+        this.directory = directory;
+        this.name = page.replaceAll("[^A-Za-z0-9._-]", "_");
+        this.page = page;
+        this.settings = settings;
+    }
+
+    /**
+     * Adds the capture filters to a proxy.
+     *
+     * @param proxy     started proxy, its own HAR capture should stay disabled
+     * @param directory directory of the HAR files
+     * @param page      title of the first page, the files are named after it and numbered
+     * @param settings  capture settings
+     * @return stream
+     */
+    public static HarStream attach(BrowserMobProxy proxy, Path directory, String page, HarSettings settings) {
+        HarStream stream = new HarStream(directory, page, settings);
+        stream.writer.setDaemon(true);
+        stream.writer.start();
+        proxy.addRequestFilter((request, contents, info) -> {
+            stream.request(request, contents, info);
+            return null;
+        });
+        proxy.addResponseFilter(stream::response);
+        return stream;
+    }
+
+    /**
+     * Ends the current page file, following entries go to a new file.
+     *
+     * @param title page title
+     */
+    public void newPage(String title) {
+        page = title;
+        enqueue(this::endFile);
+    }
+
+    /**
+     * Writes the exchanges still waiting for a response and closes the current file.
+     */
+    public void close() {
+        closed = true;
+        List<Pending> unanswered;
+        synchronized (pending) {
+            unanswered = new ArrayList<>(pending.values());
+            pending.clear();
+        }
+        unanswered.forEach(exchange -> {
+            exchange.entry.setComment("no response received");
+            write(exchange.entry);
+        });
+        enqueue(this::endFile);
+        enqueue(STOP);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.get() > 0) {
+            log.warn("HAR stream dropped {} entries, the writer could not keep up with the proxy", dropped.get());
+        }
+        if (dropped.get() > droppedReported) {
+            log.warn("{} dropped HAR entries are not recorded in any HAR file", dropped.get() - droppedReported);
+        }
+    }
+
+    private void request(HttpRequest request, HttpMessageContents contents, HttpMessageInfo info) {
+        if (closed) {
+            return;
+        }
+        HarEntry entry = new HarEntry(page);
+        entry.setStartedDateTime(new Date());
+        HarRequest harRequest = new HarRequest(request.getMethod().name(), info.getOriginalUrl(), request.getProtocolVersion().text());
+        headers(request, harRequest.getHeaders());
+        byte[] body = contents.getBinaryContents();
+        if (body.length > 0) {
+            HarPostData postData = new HarPostData();
+            postData.setMimeType(contents.getContentType());
+            Body stored = body(body, contents.isText());
+            postData.setText(stored.text());
+            postData.setComment(stored.comment());
+            harRequest.setPostData(postData);
+        }
+        harRequest.setBodySize(body.length);
+        entry.setRequest(harRequest);
+        pending.put(info.getOriginalRequest(), new Pending(System.nanoTime(), entry));
+    }
+
+    private void response(HttpResponse response, HttpMessageContents contents, HttpMessageInfo info) {
+        Pending exchange = pending.remove(info.getOriginalRequest());
+        if (exchange == null) {
+            return;
+        }
+        HarEntry entry = exchange.entry;
+        HarResponse harResponse = new HarResponse(response.getStatus().code(), response.getStatus().reasonPhrase(),
+                response.getProtocolVersion().text());
+        headers(response, harResponse.getHeaders());
+        String location = response.headers().get("Location");
+        harResponse.setRedirectURL(location != null ? location : "");
+        byte[] body = contents.getBinaryContents();
+        HarContent content = harResponse.getContent();
+        content.setSize(body.length);
+        content.setMimeType(contents.getContentType());
+        Body stored = body(body, contents.isText());
+        content.setText(stored.text());
+        content.setEncoding(stored.encoding());
+        content.setComment(stored.comment());
+        harResponse.setBodySize(body.length);
+        entry.setResponse(harResponse);
+        HarTimings timings = new HarTimings();
+        timings.setWait(System.nanoTime() - exchange.started, TimeUnit.NANOSECONDS);
+        entry.setTimings(timings);
+        write(entry);
+    }
+
+    private Body body(byte[] body, boolean text) {
+        if (body.length == 0) {
+            return new Body(null, null, null);
+        }
+        if (settings.hashBodies()) {
+            return new Body(null, null, "sha256:" + sha256(body) + ", " + body.length + " bytes");
+        }
+        if (settings.maxBodyBytes() <= 0) {
+            return new Body(null, null, "body not captured, " + body.length + " bytes");
+        }
+        String comment = body.length > settings.maxBodyBytes() ? "truncated from " + body.length + " bytes" : null;
+        byte[] kept = body.length > settings.maxBodyBytes() ? Arrays.copyOf(body, settings.maxBodyBytes()) : body;
+        return text
+                ? new Body(new String(kept, StandardCharsets.UTF_8), null, comment)
+                : new Body(Base64.getEncoder().encodeToString(kept), "base64", comment);
+    }
+
+    /**
+     * Queues an entry, the proxy thread waits at most {@link #OFFER_TIMEOUT_MILLIS} for room.
+     */
+    private void write(HarEntry entry) {
+        boolean queued;
+        try {
+            queued = queue.offer(() -> {
+                if (generator == null) {
+                    startFile(page, entry.getStartedDateTime());
+                }
+                entry.setPageref(fileTitle);
+                mapper.writeValue(generator, entry);
+                written++;
+            }, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Queues a write of the test thread, it waits for room instead of dropping it.
+     */
+    private void enqueue(Write write) {
+        try {
+            queue.put(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Write write;
+            try {
+                write = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (write == STOP) {
+                return;
+            }
+            try {
+                write.run();
+            } catch (IOException | RuntimeException e) {
+                log.error("HAR write failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void startFile(String title, Date started) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("%s_%03d.har", name, pages.incrementAndGet()));
+        fileTitle = title;
+        generator = mapper.getFactory().createGenerator(new BufferedOutputStream(Files.newOutputStream(file)), JsonEncoding.UTF8);
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("log");
+        generator.writeStringField("version", "1.2");
+        generator.writeFieldName("creator");
+        mapper.writeValue(generator, new HarNameVersion("HybridTestFramework", "1.0"));
+        generator.writeArrayFieldStart("pages");
+        HarPage harPage = new HarPage(title, title);
+        harPage.setStartedDateTime(started);
+        mapper.writeValue(generator, harPage);
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("entries");
+        log.info("Streaming HAR entries to {}", file);
+    }
+
+    private void endFile() throws IOException {
+        if (generator == null) {
+            return;
+        }
+        generator.writeEndArray();
+        long lost = dropped.get() - droppedReported;
+        if (lost > 0) {
+            // consumers must know the file is incomplete
+            generator.writeStringField("comment", "incomplete, " + lost + " entries dropped because the HAR writer could not keep up");
+            droppedReported += lost;
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+        generator = null;
+        log.info("HAR page finished with {} entries", written);
+        written = 0;
+    }
+
+    private static void headers(HttpMessage message, List<HarNameValuePair> headers) {
+        message.headers().forEach(header -> headers.add(new HarNameValuePair(header.getKey(), header.getValue())));
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    private record Pending(long started, HarEntry entry) {
+    }
+
+    private record Body(String text, String encoding, String comment) {
+    }
+}
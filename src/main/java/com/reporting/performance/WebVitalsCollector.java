@@ -0,0 +1,423 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.reporting.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebVitalsCollector records front-end performance metrics of every navigation through the DevTools protocol.
+ * <p>
+ * A script added to every new document registers PerformanceObservers for paint, largest contentful paint,
+ * layout shifts and long tasks and reports LCP, CLS (largest session window), TBT (long task time above
+ * 50 ms after the first contentful paint), FCP, TTFB and the navigation timings through a runtime binding
+ * after load and when the page is hidden. The Network domain provides the timing of every resource and the
+ * Performance domain the browser metrics at {@link #measure(String)}. Commands and events are addressed by
+ * name, so the collector does not depend on a CDP version of Selenium.
+ * <p>
+ * Navigations are grouped by page name, {@link #write(Path)} stores every navigation together with the
+ * 50th, 75th and 95th percentile of each metric per page.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class WebVitalsCollector implements AutoCloseable {
+    private static final Json json = new Json();
+    private static final Map<WebDriver, WebVitalsCollector> collectors = new ConcurrentHashMap<>();
+    private static final String BINDING = "__reportWebVitals";
+    private static final List<String> METRICS = List.of("ttfb", "fcp", "lcp", "cls", "tbt", "domContentLoaded", "load");
+    private static final double[] PERCENTILES = {50, 75, 95};
+    private static final String OBSERVER_SCRIPT = """
+            (function () {
+              if (window !== window.top || window.__webVitals) return;
+              var v = window.__webVitals = {fcp: 0, lcp: 0, cls: 0, tasks: []};
+              function observe(type, callback) {
+                try {
+                  new PerformanceObserver(function (list) { list.getEntries().forEach(callback); }).observe({type: type, buffered: true});
+                } catch (e) {}
+              }
+              var session = 0, first = 0, last = 0;
+              observe('paint', function (e) { if (e.name === 'first-contentful-paint') v.fcp = e.startTime; });
+              observe('largest-contentful-paint', function (e) { v.lcp = e.renderTime || e.loadTime || e.startTime; });
+              observe('layout-shift', function (e) {
+                if (e.hadRecentInput) return;
+                if (session && e.startTime - last < 1000 && e.startTime - first < 5000) {
+                  session += e.value;
+                } else {
+                  session = e.value;
+                  first = e.startTime;
+                }
+                last = e.startTime;
+                v.cls = Math.max(v.cls, session);
+              });
+              observe('longtask', function (e) { v.tasks.push([e.startTime, e.duration]); });
+              v.report = function () {
+                var nav = performance.getEntriesByType('navigation')[0] || {};
+                var tbt = v.tasks.reduce(function (sum, t) { return t[0] >= v.fcp ? sum + Math.max(0, t[1] - 50) : sum; }, 0);
+                var data = {url: location.href, ttfb: nav.responseStart || 0, fcp: v.fcp, lcp: v.lcp, cls: v.cls, tbt: tbt,
+                  domContentLoaded: nav.domContentLoadedEventEnd || 0, load: nav.loadEventEnd || 0};
+                if (window.__reportWebVitals) window.__reportWebVitals(JSON.stringify(data));
+                return data;
+              };
+              addEventListener('load', function () { setTimeout(v.report, 0); });
+              addEventListener('pagehide', v.report);
+            })();
+            """;
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+    private final List<Navigation> navigations = new ArrayList<>();
+    private final Map<String, Resource> requests = new HashMap<>();
+    private String mainFrame;
+    private Navigation current;
+
+    private WebVitalsCollector(WebDriver driver, DevTools devTools) {
+        this.driver = driver;
+        this.devTools = devTools;
+    }
+
+    /**
+     * Starts collecting on a session.
+     *
+     * @param driver session, it needs DevTools support (Chrome or Edge)
+     * @return collector, null when the session has no DevTools
+     */
+    public static WebVitalsCollector start(WebDriver driver) {
+        try {
+            WebDriver augmented = new Augmenter().augment(driver);
+            DevTools devTools = ((HasDevTools) augmented).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            WebVitalsCollector collector = new WebVitalsCollector(driver, devTools);
+            collector.subscribe();
+            collectors.put(driver, collector);
+            return collector;
+        } catch (Exception e) {
+            log.warn("Web Vitals not collected, DevTools not available: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the collector of a session, a decorated session resolves to the collector of the session it wraps.
+     *
+     * @param driver session
+     * @return collector, null when the session is not collected
+     */
+    public static WebVitalsCollector of(WebDriver driver) {
+        WebDriver session = driver;
+        while (session != null) {
+            WebVitalsCollector collector = collectors.get(session);
+            if (collector != null || !(session instanceof WrapsDriver decorated)) {
+                return collector;
+            }
+            session = decorated.getWrappedDriver();
+        }
+        return null;
+    }
+
+    /**
+     * Names the current navigation and returns its metrics.
+     *
+     * @param page page name used to group navigations
+     * @return Web Vitals and navigation timings in milliseconds (CLS without unit)
+     */
+    public Map<String, Double> measure(String page) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object report = js.executeScript("return window.__webVitals ? window.__webVitals.report() : null;");
+        if (report == null) {
+            js.executeScript(OBSERVER_SCRIPT);
+            report = js.executeScript("return window.__webVitals ? window.__webVitals.report() : null;");
+        }
+        Map<String, Object> performance = devTools.send(new Command<>("Performance.getMetrics", Map.of(), Json.MAP_TYPE));
+        synchronized (this) {
+            if (report instanceof Map<?, ?> data) {
+                vitals(data);
+            }
+            if (current == null) {
+                return Map.of();
+            }
+            current.page = page;
+            if (performance.get("metrics") instanceof List<?> metrics) {
+                metrics.forEach(metric -> {
+                    Map<?, ?> m = (Map<?, ?>) metric;
+                    current.metrics.put(String.valueOf(m.get("name")), ((Number) m.get("value")).doubleValue());
+                });
+            }
+            log.info("Web Vitals of {}: {}", page, current.vitals);
+            return Map.copyOf(current.vitals);
+        }
+    }
+
+    /**
+     * Returns a percentile of a metric over the navigations of a page.
+     *
+     * @param page       page name
+     * @param metric     ttfb, fcp, lcp, cls, tbt, domContentLoaded or load
+     * @param percentile percentile between 0 and 100
+     * @return value, NaN when the page has no sample
+     */
+    public synchronized double percentile(String page, String metric, double percentile) {
+        return percentile(samples(page, metric), percentile);
+    }
+
+    /**
+     * Writes all navigations and the percentiles per page as JSON.
+     *
+     * @param file report file
+     * @throws IOException when the file cannot be written
+     */
+    public synchronized void write(Path file) throws IOException {
+        Map<String, Object> pages = new LinkedHashMap<>();
+        navigations.stream().map(navigation -> navigation.page).distinct().forEach(page -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("navigations", navigations.stream().filter(n -> n.page.equals(page)).count());
+            for (String metric : METRICS) {
+                summary.put(metric, percentiles(samples(page, metric)));
+            }
+            summary.put("resourceDuration", percentiles(navigations.stream().filter(n -> n.page.equals(page))
+                    .flatMap(n -> n.resources.stream()).map(r -> r.duration).toList()));
+            pages.put(page, summary);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pages", pages);
+        report.put("navigations", navigations.stream().map(Navigation::toMap).toList());
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            json.newOutput(writer).setPrettyPrint(true).write(report);
+        }
+        log.info("Web Vitals report written to {}", file);
+    }
+
+    @Override
+    public void close() {
+        collectors.remove(driver);
+        try {
+            devTools.clearListeners();
+            devTools.disconnectSession();
+        } catch (Exception e) {
+            log.debug("DevTools session already closed: {}", e.getMessage());
+        }
+    }
+
+    private void subscribe() {
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        devTools.send(new Command<>("Performance.enable", Map.of()));
+        devTools.send(new Command<>("Page.enable", Map.of()));
+        devTools.send(new Command<>("Runtime.enable", Map.of()));
+        devTools.send(new Command<>("Runtime.addBinding", Map.of("name", BINDING)));
+        devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER_SCRIPT)));
+        Map<String, Object> tree = devTools.send(new Command<>("Page.getFrameTree", Map.of(), Json.MAP_TYPE));
+        mainFrame = String.valueOf(((Map<?, ?>) ((Map<?, ?>) tree.get("frameTree")).get("frame")).get("id"));
+        devTools.addListener(event("Network.requestWillBeSent"), this::requestWillBeSent);
+        devTools.addListener(event("Network.responseReceived"), this::responseReceived);
+        devTools.addListener(event("Network.loadingFinished"), params -> loadingDone(params, null));
+        devTools.addListener(event("Network.loadingFailed"), params -> loadingDone(params, String.valueOf(params.get("errorText"))));
+        devTools.addListener(event("Runtime.bindingCalled"), params -> {
+            if (BINDING.equals(params.get("name"))) {
+                synchronized (this) {
+                    vitals(json.toType(String.valueOf(params.get("payload")), Json.MAP_TYPE));
+                }
+            }
+        });
+    }
+
+    private synchronized void requestWillBeSent(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        String url = String.valueOf(((Map<?, ?>) params.get("request")).get("url"));
+        boolean document = "Document".equals(params.get("type")) && requestId.equals(params.get("loaderId"))
+                && mainFrame.equals(params.get("frameId"));
+        if (document && params.get("redirectResponse") != null && current != null) {
+            current.url = url;
+        } else if (document) {
+            current = new Navigation(url);
+            navigations.add(current);
+        }
+        if (current != null) {
+            requests.put(requestId, new Resource(current, url, String.valueOf(params.get("type")), number(params.get("timestamp"))));
+        }
+    }
+
+    private synchronized void responseReceived(Map<String, Object> params) {
+        Resource resource = requests.get(String.valueOf(params.get("requestId")));
+        if (resource == null) {
+            return;
+        }
+        Map<?, ?> response = (Map<?, ?>) params.get("response");
+        resource.status = (int) number(response.get("status"));
+        if (response.get("timing") instanceof Map<?, ?> timing) {
+            resource.ttfb = number(timing.get("receiveHeadersEnd")) - number(timing.get("sendEnd"));
+        }
+    }
+
+    private synchronized void loadingDone(Map<String, Object> params, String error) {
+        Resource resource = requests.remove(String.valueOf(params.get("requestId")));
+        if (resource == null) {
+            return;
+        }
+        resource.duration = (number(params.get("timestamp")) - resource.started) * 1000;
+        resource.bytes = (long) number(params.get("encodedDataLength"));
+        resource.error = error;
+        resource.navigation.resources.add(resource);
+    }
+
+    private void vitals(Map<?, ?> data) {
+        String url = String.valueOf(data.get("url"));
+        Navigation navigation = null;
+        for (int i = navigations.size() - 1; i >= 0 && navigation == null; i--) {
+            if (navigations.get(i).url.equals(url)) {
+                navigation = navigations.get(i);
+            }
+        }
+        if (navigation == null) {
+            navigation = current;
+        }
+        if (navigation == null) {
+            navigation = current = new Navigation(url);
+            navigations.add(navigation);
+        }
+        for (String metric : METRICS) {
+            navigation.vitals.put(metric, number(data.get(metric)));
+        }
+    }
+
+    private List<Double> samples(String page, String metric) {
+        return navigations.stream().filter(n -> n.page.equals(page) && n.vitals.containsKey(metric))
+                .map(n -> n.vitals.get(metric)).toList();
+    }
+
+    private static Map<String, Double> percentiles(List<Double> samples) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (samples.isEmpty()) {
+            return values;
+        }
+        for (double percentile : PERCENTILES) {
+            values.put("p" + (int) percentile, percentile(samples, percentile));
+        }
+        return values;
+    }
+
+    private static double percentile(List<Double> samples, double percentile) {
+        if (samples.isEmpty()) {
+            return Double.NaN;
+        }
+        List<Double> sorted = samples.stream().sorted().toList();
+        int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+        return sorted.get(Math.min(sorted.size() - 1, Math.max(0, rank - 1)));
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    private static final class Navigation {
+        private final Map<String, Double> vitals = new LinkedHashMap<>();
+        private final Map<String, Double> metrics = new LinkedHashMap<>();
+        private final List<Resource> resources = new ArrayList<>();
+        private String url;
+        private String page;
+
+        private Navigation(String url) {
+            this.url = url;
+            this.page = url;
+            try {
+                URI uri = URI.create(url);
+                if (uri.getHost() != null) {
+                    this.page = uri.getHost() + uri.getPath();
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Page name falls back to the url {}", url);
+            }
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("page", page);
+            map.put("url", url);
+            map.put("vitals", vitals);
+            map.put("metrics", metrics);
+            map.put("resources", resources.stream().map(Resource::toMap).toList());
+            return map;
+        }
+    }
+
+    private static final class Resource {
+        private final Navigation navigation;
+        private final String url;
+        private final String type;
+        private final double started;
+        private int status;
+        private double ttfb;
+        private double duration;
+        private long bytes;
+        private String error;
+
+        private Resource(Navigation navigation, String url, String type, double started) {
+            this.navigation = navigation;
+            this.url = url;
+            this.type = type;
+            this.started = started;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("url", url);
+            map.put("type", type);
+            map.put("status", status);
+            map.put("ttfb", ttfb);
+            map.put("duration", duration);
+            map.put("bytes", bytes);
+            if (error != null) {
+                map.put("error", error);
+            }
+            return map;
+        }
+    }
+}
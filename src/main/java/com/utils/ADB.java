@@ -23,10 +23,15 @@ package com.utils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author Dipjyoti Metia
@@ -34,9 +39,10 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class ADB {
 
+    private static final Pattern SHELL_COMMAND = Pattern.compile("adb -s (\\S+) shell (.+)", Pattern.DOTALL);
     private final String SDK_PATH = System.getenv("ANDROID_HOME");
     private final String ADB_PATH = SDK_PATH + "platform-tools" + File.separator + "adb";
-    private final String EMULATOR_PATH = SDK_PATH + File.separator + "emulator";
+    private final String EMULATOR_PATH = SDK_PATH + File.separator + "emulator" + File.separator + "emulator";
 
     private final String ID;
 
@@ -61,6 +67,111 @@ public class ADB {
         }
     }
 
+    /**
+     * Starts an android emulator on a console port without waiting for it, the emulator serial is emulator-&lt;port&gt;
+     *
+     * @param avdName  emulator name
+     * @param port     even console port between 5554 and 5682, adb uses port + 1
+     * @param readOnly allow several instances of the same AVD, changes are not written back
+     * @param headless run without window, audio and boot animation
+     * @return emulator process
+     */
+    public static Process startEmulator(String avdName, int port, boolean readOnly, boolean headless) throws IOException {
+        List<String> command = new ArrayList<>(List.of(Android.getAndroidHome() + File.separator + "emulator" + File.separator + "emulator",
+                "-avd", avdName, "-port", String.valueOf(port), "-no-snapshot-save"));
+        if (readOnly) command.add("-read-only");
+        if (headless) command.addAll(List.of("-no-window", "-no-audio", "-no-boot-anim"));
+        log.info("Starting emulator {} on port {}", avdName, port);
+        return new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+    }
+
+    /**
+     * Waits until the device reports sys.boot_completed
+     *
+     * @param timeout maximum time to wait
+     */
+    public void waitForBoot(Duration timeout) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                if ("1".equals(AdbClient.getDefault().shell(ID, "getprop sys.boot_completed").trim())) {
+                    log.info("Device {} boot completed", ID);
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Device {} not ready: {}", ID, e.getMessage());
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+        throw new TimeoutException("Device " + ID + " did not boot within " + timeout);
+    }
+
+    /**
+     * Saves the emulator state as snapshot
+     *
+     * @param name snapshot name
+     * @throws IOException when the emulator console does not confirm the save
+     */
+    public void saveSnapshot(String name) throws Exception {
+        console("avd snapshot save " + name);
+        log.info("Saved snapshot {} of {}", name, ID);
+    }
+
+    /**
+     * Restores the emulator state from a snapshot
+     *
+     * @param name snapshot name
+     * @throws IOException when the emulator console does not confirm the load
+     */
+    public void loadSnapshot(String name) throws Exception {
+        console("avd snapshot load " + name);
+        log.info("Loaded snapshot {} on {}", name, ID);
+    }
+
+    /**
+     * Reads a system property of the device
+     *
+     * @param name property name
+     * @return value, empty when the property is not set
+     */
+    public String getProperty(String name) throws IOException {
+        return AdbClient.getDefault().shell(ID, "getprop " + name).trim();
+    }
+
+    /**
+     * Sets a system property of the device, the shell user may only set debug.* properties
+     *
+     * @param name  property name
+     * @param value value without blanks
+     */
+    public void setProperty(String name, String value) throws IOException {
+        AdbClient.getDefault().shell(ID, "setprop " + name + " " + value);
+    }
+
+    /**
+     * Sends a command to the emulator console, which answers OK or KO: followed by the reason
+     *
+     * @param command console command
+     * @return reply
+     * @throws IOException when the console does not answer OK
+     */
+    private String console(String command) throws Exception {
+        String reply = command("adb -s " + ID + " emu " + command);
+        List<String> lines = reply.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+        if (lines.isEmpty() || !"OK".equals(lines.get(lines.size() - 1)) || lines.stream().anyMatch(line -> line.startsWith("KO"))) {
+            throw new IOException("Emulator console of " + ID + " rejected '" + command + "': " + (reply.isEmpty() ? "no reply" : reply));
+        }
+        return reply;
+    }
+
+    /**
+     * Kills the emulator of this device
+     */
+    public void killEmulator() throws Exception {
+        command("adb -s " + ID + " emu kill");
+    }
+
     /**
      * Close android emulator
      */
@@ -83,6 +194,10 @@ public class ADB {
      * @return output
      */
     public String command(String command) throws Exception {
+        String served = serverCommand(command);
+        if (served != null) {
+            return served.trim();
+        }
         log.debug("Formatting ADB Command: " + command);
         String newCommand = "";
         if (command.startsWith("adb"))
@@ -95,6 +210,37 @@ public class ADB {
         else return output.trim();
     }
 
+    /**
+     * Runs device shell commands and device listing through the adb server socket. A shell command falls back to the
+     * adb executable only when it never reached the device, a failure after it was sent is thrown because running it
+     * again could repeat its effect, e.g. of rm, am start or pm clear.
+     *
+     * @param command command
+     * @return output or null when the command needs the adb executable or the server is not reachable
+     * @throws IOException when the device shell is lost after the command was sent
+     */
+    private String serverCommand(String command) throws IOException {
+        Matcher shell = SHELL_COMMAND.matcher(command);
+        if (shell.matches()) {
+            try {
+                return AdbClient.getDefault().shell(shell.group(1), shell.group(2));
+            } catch (AdbClient.CommandNotSentException e) {
+                log.debug("adb shell not reachable, running adb executable: " + e.getMessage());
+                return null;
+            }
+        }
+        try {
+            if (command.trim().equals("adb devices")) {
+                StringBuilder output = new StringBuilder("List of devices attached\n");
+                AdbClient.getDefault().devices().forEach(device -> output.append(device).append("\tdevice\n"));
+                return output.toString();
+            }
+        } catch (IOException e) {
+            log.debug("adb server not reachable, running adb executable: " + e.getMessage());
+        }
+        return null;
+    }
+
     public void killServer() throws Exception {
         command("adb kill-server");
     }
@@ -202,7 +348,7 @@ public class ADB {
             default -> {
             }
         }
-        command("adb -s" + ID + "dumpsys battery set level" + status);
+        command("adb -s " + ID + " shell dumpsys battery set level " + status);
         log.info("Battery status is changed to " + status);
     }
 
@@ -212,7 +358,7 @@ public class ADB {
      * @param status batteryStatus
      */
     public void setBatteryStatus(String status) throws Exception {
-        command("adb -s" + ID + "dumpsys battery set status" + status);
+        command("adb -s " + ID + " shell dumpsys battery set status " + status);
         log.info("Set battery status " + status);
     }
 
@@ -220,7 +366,7 @@ public class ADB {
      * It let you reset the battery change made through adb.
      */
     public void setBatteryReset() throws Exception {
-        command("adb -s" + ID + "dumpsys battery reset");
+        command("adb -s " + ID + " shell dumpsys battery reset");
         log.info("Set battery reset");
     }
 
@@ -242,7 +388,7 @@ public class ADB {
             default:
                 break;
         }
-        command("adb -s" + ID + "dumpsys battery set usb" + status);
+        command("adb -s " + ID + " shell dumpsys battery set usb " + status);
         log.info("Device USB state is " + status);
     }
 
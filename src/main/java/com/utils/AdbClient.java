@@ -0,0 +1,286 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AdbClient talks to the adb server over its socket protocol instead of starting an adb process per command.
+ * <p>
+ * Every device gets one long-lived shell (the "shell:sh" service, no PTY) and commands are written to its
+ * standard input. The output of a command ends at a marker line echoed after it, so the shell is reused for
+ * the next command. Commands to the same device run one at a time, different devices run in parallel.
+ * <p>
+ * A {@link CommandNotSentException} tells that the device never got the command, the caller may run it another
+ * way. Any other failure of {@link #shell(String, String)} happens after the command was written, it may have run.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public class AdbClient implements Closeable {
+    private static final int CONNECT_TIMEOUT = 2_000;
+    private static final int READ_TIMEOUT = 120_000;
+    private static final AdbClient DEFAULT = new AdbClient("127.0.0.1", 5037);
+    private final String host;
+    private final int port;
+    private final Map<String, Shell> shells = new ConcurrentHashMap<>();
+    private final AtomicLong markers = new AtomicLong();
+
+    /**
+     * Creates a client.
+     *
+     * @param host adb server host
+     * @param port adb server port
+     */
+    public AdbClient(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Returns the client of the local adb server on port 5037.
+     *
+     * @return client
+     */
+    public static AdbClient getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the adb server protocol version.
+     *
+     * @return version
+     * @throws IOException when the server is not reachable or refuses the request
+     */
+    public int version() throws IOException {
+        return Integer.parseInt(hostQuery("host:version"), 16);
+    }
+
+    /**
+     * Returns the serial numbers of the devices in "device" state.
+     *
+     * @return serial numbers
+     * @throws IOException when the server is not reachable or refuses the request
+     */
+    public List<String> devices() throws IOException {
+        List<String> devices = new ArrayList<>();
+        for (String line : hostQuery("host:devices").split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length == 2 && columns[1].equals("device")) {
+                devices.add(columns[0]);
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Runs a shell command on a device, stdout and stderr are combined.
+     *
+     * @param serial  device serial number
+     * @param command shell command
+     * @return command output
+     * @throws CommandNotSentException when the device shell cannot be opened or the command cannot be written
+     * @throws IOException              when the shell is lost after the command was written
+     */
+    public String shell(String serial, String command) throws IOException {
+        Shell shell = shells.computeIfAbsent(serial, Shell::new);
+        shell.lock.lock();
+        try {
+            return shell.run(command);
+        } catch (IOException e) {
+            shells.remove(serial, shell);
+            shell.close();
+            throw e;
+        } finally {
+            shell.lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the shell of a device, a command blocked reading its output fails right away. The next command
+     * opens a new shell.
+     *
+     * @param serial device serial number
+     */
+    public void close(String serial) {
+        Shell shell = shells.remove(serial);
+        if (shell != null) {
+            shell.closed = true;
+            shell.close();
+        }
+    }
+
+    /**
+     * Closes the shells of all devices.
+     */
+    @Override
+    public void close() {
+        shells.values().forEach(Shell::close);
+        shells.clear();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT);
+        socket.setSoTimeout(READ_TIMEOUT);
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    private String hostQuery(String request) throws IOException {
+        try (Socket socket = connect()) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            send(socket.getOutputStream(), in, request);
+            return new String(in.readNBytes(readLength(in)), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(OutputStream out, DataInputStream in, String request) throws IOException {
+        byte[] payload = request.getBytes(StandardCharsets.UTF_8);
+        out.write(String.format("%04x", payload.length).getBytes(StandardCharsets.US_ASCII));
+        out.write(payload);
+        out.flush();
+        byte[] status = new byte[4];
+        in.readFully(status);
+        String reply = new String(status, StandardCharsets.US_ASCII);
+        if (reply.equals("FAIL")) {
+            throw new IOException("adb " + request + " failed: " + new String(in.readNBytes(readLength(in)), StandardCharsets.UTF_8));
+        }
+        if (!reply.equals("OKAY")) {
+            throw new IOException("adb " + request + " unexpected reply: " + reply);
+        }
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        byte[] length = new byte[4];
+        in.readFully(length);
+        return Integer.parseInt(new String(length, StandardCharsets.US_ASCII), 16);
+    }
+
+    /**
+     * The shell command did not reach the device, it was not run.
+     */
+    public static class CommandNotSentException extends IOException {
+        public CommandNotSentException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final class Shell implements Closeable {
+        private final String serial;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean closed;
+        private volatile Socket socket;
+        private InputStream in;
+        private OutputStream out;
+
+        private Shell(String serial) {
+            this.serial = serial;
+        }
+
+        private String run(String command) throws IOException {
+            String marker = "__ADB_END_" + markers.incrementAndGet() + "__";
+            try {
+                if (socket == null) {
+                    open();
+                }
+                // the shell only runs the command once the closing line arrived, a failed write leaves it unrun
+                out.write(("{ " + command + "\n} </dev/null 2>&1; echo; echo " + marker + "\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                throw new CommandNotSentException("adb shell of " + serial + " not available: " + e.getMessage(), e);
+            }
+            byte[] end = ("\n" + marker + "\n").getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int matched = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    continue;
+                }
+                output.write(b);
+                matched = b == end[matched] ? matched + 1 : (b == end[0] ? 1 : 0);
+                if (matched == end.length) {
+                    byte[] bytes = output.toByteArray();
+                    int length = Math.max(0, bytes.length - end.length);
+                    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+                }
+            }
+            throw new IOException("adb shell of " + serial + " closed");
+        }
+
+        private void open() throws IOException {
+            Socket opened = connect();
+            try {
+                DataInputStream input = new DataInputStream(opened.getInputStream());
+                send(opened.getOutputStream(), input, "host:transport:" + serial);
+                send(opened.getOutputStream(), input, "shell:sh");
+                socket = opened;
+                in = new BufferedInputStream(input, 8192);
+                out = opened.getOutputStream();
+                if (closed) {
+                    // closed by another thread while opening
+                    throw new IOException("adb shell of " + serial + " closed");
+                }
+                log.debug("Opened adb shell for {}", serial);
+            } catch (IOException e) {
+                opened.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            // may run on another thread than the command, while it is blocked reading
+            Socket current = socket;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    log.debug("Closing adb shell of {}: {}", serial, e.getMessage());
+                }
+                socket = null;
+            }
+        }
+    }
+}
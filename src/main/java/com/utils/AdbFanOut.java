@@ -0,0 +1,181 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdbFanOut runs the same ADB operation on many devices at once.
+ * <p>
+ * Every device gets its own {@link ADB} instance and the operations run on a bounded pool, so a rack of
+ * devices is reset in roughly the time of its slowest device instead of the sum of all of them. A failing
+ * or hanging device never stops the others, its error is collected in the {@link Result} next to the
+ * values of the devices that succeeded. A device running past the timeout gets its adb shell closed, which
+ * fails a command blocked on the device, so the device's pool thread and shell are free for the next fan out.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class AdbFanOut implements Closeable {
+    private static final AtomicInteger threads = new AtomicInteger();
+    private final ExecutorService executor;
+    private final AdbClient client;
+
+    /**
+     * Creates a fan out over the local adb server.
+     *
+     * @param parallelism maximum number of devices served at the same time
+     */
+    public AdbFanOut(int parallelism) {
+        this(parallelism, AdbClient.getDefault());
+    }
+
+    /**
+     * Creates a fan out.
+     *
+     * @param parallelism maximum number of devices served at the same time
+     * @param client      client whose device shell is closed when a device times out
+     */
+    public AdbFanOut(int parallelism, AdbClient client) {
+        this.client = client;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "adb-fanout-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs an operation on all devices and collects the results.
+     *
+     * @param devices   device serials, e.g. from {@link ADB#getConnectedDevices()}
+     * @param operation operation
+     * @param timeout   maximum time for the whole fan out, devices still running afterwards are interrupted and
+     *                  their adb shell is closed
+     * @param <T>       result type
+     * @return results and failures per device
+     */
+    public <T> Result<T> run(Collection<?> devices, Operation<T> operation, Duration timeout) {
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        Map<String, Future<T>> futures = new LinkedHashMap<>();
+        for (Object device : devices) {
+            String serial = String.valueOf(device);
+            futures.put(serial, executor.submit(() -> operation.apply(new ADB(serial))));
+        }
+        Map<String, T> values = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        futures.forEach((serial, future) -> {
+            try {
+                values.put(serial, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                failures.put(serial, e.getCause());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                // an interrupt does not end a blocking socket read, closing the shell does
+                client.close(serial);
+                failures.put(serial, new TimeoutException("Device " + serial + " did not finish within " + timeout));
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                failures.put(serial, e);
+                Thread.currentThread().interrupt();
+            }
+        });
+        failures.forEach((serial, error) -> log.error("ADB operation failed on {}: {}", serial, error.getMessage()));
+        log.info("ADB operation finished on {} of {} devices in {} ms", values.size(), futures.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return new Result<>(Collections.unmodifiableMap(values), Collections.unmodifiableMap(failures));
+    }
+
+    /**
+     * Runs an action without result on all devices.
+     *
+     * @param devices device serials
+     * @param action  action
+     * @param timeout maximum time for the whole fan out
+     * @return failures per device
+     */
+    public Result<Void> each(Collection<?> devices, Action action, Duration timeout) {
+        return run(devices, adb -> {
+            action.accept(adb);
+            return null;
+        }, timeout);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ADB operation with a result.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface Operation<T> {
+        T apply(ADB adb) throws Exception;
+    }
+
+    /**
+     * ADB operation without result.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void accept(ADB adb) throws Exception;
+    }
+
+    /**
+     * Outcome of a fan out, in device order.
+     *
+     * @param values   results of the devices that succeeded
+     * @param failures errors of the devices that failed or timed out
+     * @param <T>      result type
+     */
+    public record Result<T>(Map<String, T> values, Map<String, Throwable> failures) {
+
+        /**
+         * @return true when no device failed
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+}
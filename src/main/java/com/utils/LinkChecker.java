@@ -0,0 +1,243 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LinkChecker checks links and assets of pages with plain HTTP requests instead of browser navigations.
+ * <p>
+ * Every URL is asked with HEAD first and with GET when the server rejects HEAD or answers with an error, the
+ * body of the GET is not read. Requests are sent by one non-blocking HTTP client, at most {@code perHost}
+ * of them to the same host at a time, so a page full of links to one site neither queues behind a single
+ * connection nor floods it. Results are kept for the lifetime of the checker, a URL linked from many pages
+ * is requested once.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class LinkChecker {
+    private final HttpClient client;
+    private final int perHost;
+    private final Duration timeout;
+    private final Map<URI, CompletableFuture<Result>> results = new ConcurrentHashMap<>();
+    private final Map<String, HostLimit> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a link checker.
+     *
+     * @param perHost maximum concurrent requests per host
+     * @param timeout connect and response timeout of one request
+     */
+    public LinkChecker(int perHost, Duration timeout) {
+        this.perHost = perHost;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Checks links, waits for all results.
+     *
+     * @param urls absolute URLs, duplicates and links other than http and https are skipped
+     * @return results in the order of the first occurrence of every URL
+     */
+    public List<Result> check(Collection<String> urls) {
+        return checkAsync(urls).join();
+    }
+
+    /**
+     * Checks links.
+     *
+     * @param urls absolute URLs, duplicates and links other than http and https are skipped
+     * @return results in the order of the first occurrence of every URL
+     */
+    public CompletableFuture<List<Result>> checkAsync(Collection<String> urls) {
+        Set<URI> unique = new LinkedHashSet<>();
+        for (String url : urls) {
+            URI uri = normalize(url);
+            if (uri != null) {
+                unique.add(uri);
+            }
+        }
+        List<CompletableFuture<Result>> checks = new ArrayList<>(unique.size());
+        unique.forEach(uri -> checks.add(results.computeIfAbsent(uri, this::request)));
+        return CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> checks.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * @return number of URLs checked or in flight
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private CompletableFuture<Result> request(URI uri) {
+        HostLimit limit = hosts.computeIfAbsent(uri.getHost().toLowerCase(), host -> new HostLimit(perHost));
+        return limit.acquire()
+                .thenCompose(permit -> head(uri))
+                .whenComplete((result, error) -> limit.release());
+    }
+
+    private CompletableFuture<Result> head(URI uri) {
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (response != null && response.statusCode() < 400) {
+                        return CompletableFuture.completedFuture(new Result(uri, response.statusCode(), "HEAD", elapsed(start), null));
+                    }
+                    return get(uri);
+                })
+                .thenCompose(result -> result);
+    }
+
+    private CompletableFuture<Result> get(URI uri) {
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .handle((response, error) -> {
+                    if (response == null) {
+                        return new Result(uri, -1, "GET", elapsed(start), describe(error));
+                    }
+                    try {
+                        // closing the unread body cancels its transfer
+                        response.body().close();
+                    } catch (IOException e) {
+                        log.debug("Body of {} not closed: {}", uri, e.getMessage());
+                    }
+                    return new Result(uri, response.statusCode(), "GET", elapsed(start), null);
+                });
+    }
+
+    private static URI normalize(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            String link = url.trim();
+            int fragment = link.indexOf('#');
+            URI uri = URI.create(fragment < 0 ? link : link.substring(0, fragment));
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                return null;
+            }
+            return uri;
+        } catch (Exception e) {
+            log.debug("Link {} skipped: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        return cause.getClass().getSimpleName() + (cause.getMessage() == null ? "" : ": " + cause.getMessage());
+    }
+
+    private static Duration elapsed(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Result of a link check.
+     *
+     * @param url     checked URL without fragment
+     * @param status  HTTP status after redirects, -1 when no response arrived
+     * @param method  method of the request that decided the result
+     * @param latency time until the response headers arrived
+     * @param error   reason when no response arrived
+     */
+    public record Result(URI url, int status, String method, Duration latency, String error) {
+
+        /**
+         * @return whether the link is broken
+         */
+        public boolean isBroken() {
+            return status < 0 || status >= 400;
+        }
+    }
+
+    /**
+     * Non-blocking limit of concurrent requests to one host, waiting requests are started in arrival order.
+     */
+    private static final class HostLimit {
+        private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int available;
+
+        HostLimit(int permits) {
+            this.available = permits;
+        }
+
+        CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (available > 0) {
+                    available--;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> permit = new CompletableFuture<>();
+                waiting.add(permit);
+                return permit;
+            }
+        }
+
+        void release() {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            next.complete(null);
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.utils;
+
+import com.csvreader.CsvReader;
+import com.csvreader.CsvWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TestDataStore serves the rows of a data sheet from memory.
+ * <p>
+ * The sheet is parsed once and indexed by test case name (case insensitive) and instance. Rows are served
+ * as immutable field maps, so they can be shared between parallel tests. The sheet is parsed again only
+ * when the file changes on disk.
+ * <p>
+ * Updates are kept in an in-memory overlay, so a test reads its own writes immediately, and are appended
+ * to a journal next to the sheet by a background writer. When writes go quiet, or the journal grows large,
+ * the writer folds the journal into a copy of the sheet and atomically moves it over the original. The
+ * compaction holds only the journal lock: readers keep being served from memory, and afterwards switch to a
+ * snapshot built from the compacted rows instead of parsing the sheet again. Compacted updates leave the overlay.
+ * Updates of different test cases never wait on each other or on the file system. A field name is matched
+ * case insensitively against the fields the row already has, and the update uses the existing name, so the
+ * overlay, the journal and the compacted sheet agree on it. With the system property
+ * {@value #MANUAL_COMPACTION} set to true the writer only journals, the sheet changes on {@link #flush()} only.
+ *
+ * @author Dipjyoti Metia
+ */
+@Slf4j
+public final class TestDataStore {
+    private static final Map<Path, TestDataStore> stores = new ConcurrentHashMap<>();
+    private static final int COMPACT_THRESHOLD = 500;
+    /**
+     * System property that leaves compaction to {@link #flush()}, for tests asserting the sheet before it.
+     */
+    public static final String MANUAL_COMPACTION = "testdata.manualCompaction";
+    private final Path path;
+    private final Path journal;
+    private final Map<Key, Map<String, String>> overlay = new ConcurrentHashMap<>();
+    private final BlockingQueue<Update> pending = new LinkedBlockingQueue<>();
+    private final Object journalLock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile Thread writer;
+    private int journaled;
+
+    private TestDataStore(Path path) {
+        this.path = path;
+        this.journal = path.resolveSibling(path.getFileName() + ".journal");
+        replay();
+    }
+
+    /**
+     * Returns the store of a data sheet, stores are shared per file.
+     *
+     * @param path data sheet path
+     * @return store
+     */
+    public static TestDataStore of(String path) {
+        return stores.computeIfAbsent(Path.of(path).toAbsolutePath().normalize(), TestDataStore::new);
+    }
+
+    /**
+     * Returns the fields of a test case row.
+     *
+     * @param testcaseName test case name
+     * @param instance     test case instance
+     * @return immutable field map, empty when the sheet has no such row
+     */
+    public Map<String, String> row(String testcaseName, int instance) {
+        Key key = new Key(testcaseName, instance);
+        Map<String, String> row = current().rows.get(key);
+        if (row == null) {
+            log.info("No data present for testname " + testcaseName);
+            return Map.of();
+        }
+        Map<String, String> updates = overlay.get(key);
+        if (updates == null) {
+            return row;
+        }
+        Map<String, String> merged = new LinkedHashMap<>(row);
+        merged.putAll(updates);
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Returns a field of a test case row.
+     *
+     * @param testcaseName test case name
+     * @param field        field name
+     * @param instance     test case instance
+     * @return field value or null when not present
+     */
+    public String get(String testcaseName, String field, int instance) {
+        return row(testcaseName, instance).get(field);
+    }
+
+    /**
+     * Updates or adds a field of a test case row. The update is visible to readers immediately and
+     * written to the sheet in the background.
+     *
+     * @param testcaseName test case name
+     * @param field        field name, an existing field of the row matching it case insensitively keeps its name
+     * @param value        value
+     * @param instance     test case instance
+     */
+    public void put(String testcaseName, String field, String value, int instance) {
+        Key key = new Key(testcaseName, instance);
+        Map<String, String> row = current().rows.get(key);
+        if (row == null) {
+            log.info("No data present for testname " + testcaseName);
+            return;
+        }
+        String[] resolved = new String[1];
+        overlay.compute(key, (k, updates) -> {
+            Map<String, String> fields = updates != null ? updates : new ConcurrentHashMap<>();
+            resolved[0] = resolve(field, fields.keySet(), row.keySet());
+            fields.put(resolved[0], value);
+            // the update is journaled while the row is locked, so journal order matches overlay order
+            pending.add(new Update(testcaseName, instance, resolved[0], value));
+            return fields;
+        });
+        startWriter();
+        LockSupport.unpark(writer);
+        log.info("value for the field: " + resolved[0] + " is updated to: " + value + " Successfully");
+    }
+
+    /**
+     * Writes all pending updates to the journal and folds the journal into the sheet.
+     */
+    public void flush() {
+        synchronized (journalLock) {
+            try {
+                append(drain());
+                if (journaled > 0) {
+                    compact();
+                }
+            } catch (IOException e) {
+                log.error("Unable to write data sheet {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private static String resolve(String field, Iterable<String> updated, Iterable<String> existing) {
+        for (Iterable<String> names : List.of(existing, updated)) {
+            for (String name : names) {
+                if (name.equalsIgnoreCase(field)) {
+                    return name;
+                }
+            }
+        }
+        return field;
+    }
+
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::writeLoop, "data-journal-" + path.getFileName());
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+    }
+
+    private void writeLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (pending.isEmpty()) {
+                LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+            }
+            try {
+                // updates leave the queue only under the journal lock, a concurrent flush never misses one
+                synchronized (journalLock) {
+                    List<Update> batch = drain();
+                    append(batch);
+                    boolean due = journaled >= COMPACT_THRESHOLD || (batch.isEmpty() && journaled > 0);
+                    if (due && !Boolean.getBoolean(MANUAL_COMPACTION)) {
+                        compact();
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Unable to write data sheet {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private List<Update> drain() {
+        List<Update> batch = new ArrayList<>();
+        pending.drainTo(batch);
+        return batch;
+    }
+
+    private void append(List<Update> batch) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try (Writer out = Files.newBufferedWriter(journal, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            CsvWriter csv = new CsvWriter(out, ',');
+            for (Update update : batch) {
+                csv.writeRecord(new String[]{update.testcaseName, String.valueOf(update.instance), update.field, update.value});
+            }
+            csv.flush();
+        }
+        journaled += batch.size();
+    }
+
+    private void replay() {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        CsvReader reader = null;
+        try {
+            reader = new CsvReader(journal.toString(), ',', StandardCharsets.UTF_8);
+            while (reader.readRecord()) {
+                overlay.computeIfAbsent(new Key(reader.get(0), Integer.parseInt(reader.get(1))), k -> new ConcurrentHashMap<>())
+                        .put(reader.get(2), reader.get(3));
+                journaled++;
+            }
+            log.info("Replayed {} journaled updates for {}", journaled, path);
+        } catch (IOException | NumberFormatException e) {
+            log.error("Unable to replay journal {}: {}", journal, e.getMessage());
+        } finally {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+        if (journaled > 0) {
+            startWriter();
+        }
+    }
+
+    private void compact() throws IOException {
+        Sheet sheet = read();
+        Map<Key, Map<String, String>> compacted = new HashMap<>();
+        overlay.forEach((key, updates) -> compacted.put(key, Map.copyOf(updates)));
+        int name = sheet.headers.indexOf("TestcaseName");
+        int instance = sheet.headers.indexOf("TestcaseInstance");
+        for (List<String> record : sheet.records) {
+            Key key = new Key(record.get(name).trim(), Integer.parseInt(record.get(instance).trim()));
+            Map<String, String> updates = compacted.get(key);
+            if (updates != null) {
+                updates.forEach((field, value) -> setField(sheet.headers, record, field, value));
+            }
+        }
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            CsvWriter csv = new CsvWriter(out, ',');
+            csv.writeRecord(sheet.headers.toArray(String[]::new));
+            for (List<String> record : sheet.records) {
+                while (record.size() < sheet.headers.size()) {
+                    record.add("");
+                }
+                csv.writeRecord(record.toArray(String[]::new));
+            }
+            csv.flush();
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(journal);
+        synchronized (this) {
+            snapshot = new Snapshot(version(), index(sheet));
+        }
+        // the snapshot holds the compacted values now, updates made during the compaction stay in the overlay
+        compacted.forEach((key, updates) -> overlay.computeIfPresent(key, (k, current) -> {
+            updates.forEach((field, value) -> current.remove(field, value));
+            return current.isEmpty() ? null : current;
+        }));
+        log.info("Compacted {} journaled updates into {}", journaled, path);
+        journaled = 0;
+    }
+
+    private static void setField(List<String> headers, List<String> record, String field, String value) {
+        int free = -1;
+        for (int i = 1; headers.contains("Field" + i); i++) {
+            String existing = cell(record, headers.indexOf("Field" + i)).trim();
+            if (existing.equalsIgnoreCase(field)) {
+                setCell(record, headers.indexOf("Value" + i), value);
+                return;
+            }
+            if (existing.isEmpty() && free < 0) {
+                free = i;
+            }
+        }
+        if (free < 0) {
+            free = headers.size() / 2;
+            headers.add("Field" + free);
+            headers.add("Value" + free);
+        }
+        setCell(record, headers.indexOf("Field" + free), field);
+        setCell(record, headers.indexOf("Value" + free), value);
+        log.info("New Field: " + field + " is added successfully with value: " + value);
+    }
+
+    private static String cell(List<String> record, int index) {
+        return index < record.size() ? record.get(index) : "";
+    }
+
+    private static void setCell(List<String> record, int index, String value) {
+        while (record.size() <= index) {
+            record.add("");
+        }
+        record.set(index, value);
+    }
+
+    private Snapshot current() {
+        Version version = version();
+        Snapshot loaded = snapshot;
+        if (loaded != null && loaded.version.equals(version)) {
+            return loaded;
+        }
+        synchronized (this) {
+            version = version();
+            if (snapshot == null || !snapshot.version.equals(version)) {
+                snapshot = load(version);
+            }
+            return snapshot;
+        }
+    }
+
+    private Version version() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new Version(attributes.lastModifiedTime().toMillis(), attributes.size(), attributes.fileKey());
+        } catch (IOException e) {
+            return Version.MISSING;
+        }
+    }
+
+    private Snapshot load(Version version) {
+        if (version.equals(Version.MISSING)) {
+            log.error("Data sheet not found: {}", path);
+            return new Snapshot(version, Map.of());
+        }
+        try {
+            Map<Key, Map<String, String>> rows = index(read());
+            log.info("Loaded {} rows from {}", rows.size(), path);
+            return new Snapshot(version, rows);
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to read data sheet {}: {}", path, e.getMessage());
+            return new Snapshot(version, Map.of());
+        }
+    }
+
+    private Sheet read() throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        CsvReader reader = new CsvReader(path.toString(), ',', StandardCharsets.UTF_8);
+        try {
+            reader.readHeaders();
+            List<String> headers = new ArrayList<>(Arrays.asList(reader.getHeaders()));
+            while (reader.readRecord()) {
+                records.add(new ArrayList<>(Arrays.asList(reader.getValues())));
+            }
+            return new Sheet(headers, records);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static Map<Key, Map<String, String>> index(Sheet sheet) {
+        Map<Key, Map<String, String>> rows = new HashMap<>();
+        int name = sheet.headers.indexOf("TestcaseName");
+        int instance = sheet.headers.indexOf("TestcaseInstance");
+        for (List<String> record : sheet.records) {
+            Key key = new Key(cell(record, name).trim(), Integer.parseInt(cell(record, instance).trim()));
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 1; sheet.headers.contains("Field" + i); i++) {
+                String field = cell(record, sheet.headers.indexOf("Field" + i)).trim();
+                if (!field.isEmpty()) {
+                    fields.put(field, cell(record, sheet.headers.indexOf("Value" + i)).trim());
+                }
+            }
+            rows.putIfAbsent(key, Collections.unmodifiableMap(fields));
+        }
+        return rows;
+    }
+
+    private record Key(String testcaseName, int instance) {
+        private Key {
+            testcaseName = testcaseName.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Update(String testcaseName, int instance, String field, String value) {
+    }
+
+    private record Version(long modified, long size, Object fileKey) {
+        private static final Version MISSING = new Version(-1, -1, null);
+    }
+
+    private record Snapshot(Version version, Map<Key, Map<String, String>> rows) {
+    }
+
+    private record Sheet(List<String> headers, List<List<String>> records) {
+    }
+}
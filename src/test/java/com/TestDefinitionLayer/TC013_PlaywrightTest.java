@@ -0,0 +1,59 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.TestDefinitionLayer;
+
+import com.core.PlaywrightActions;
+import com.pages.web.LoginPagePlaywright;
+import com.reporting.extentreport.ExtentTestManager;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Link;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.testng.annotations.Test;
+
+@Link("https://jira.cloud.com")
+@Feature("Api1")
+public class TC013_PlaywrightTest extends PlaywrightActions {
+
+    @Severity(SeverityLevel.CRITICAL)
+    @Test(description = "E2E test for App using the Playwright engine")
+    public void TestLogin() {
+
+        String tName = "TC013_PlaywrightTest";
+
+        LoginPagePlaywright loginPage = new LoginPagePlaywright();
+
+        ExtentTestManager.startTest("Test1", "Test Description with Playwright");
+
+        try {
+            loginPage.Login(tName);
+        } catch (Exception e) {
+            catchBlock(e);
+        } finally {
+            ExtentTestManager.endTest();
+        }
+
+    }
+}
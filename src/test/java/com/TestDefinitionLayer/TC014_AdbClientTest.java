@@ -0,0 +1,196 @@
+/*
+MIT License
+Copyright (c) 2025 Dipjyoti Metia
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+package com.TestDefinitionLayer;
+
+import com.utils.AdbClient;
+import com.utils.AdbFanOut;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Feature("ADB")
+public class TC014_AdbClientTest {
+    private static final Map<String, String> DEVICE = Map.of(
+            "getprop ro.build.version.release", "14\n",
+            "getprop ro.product.model", "sdk_gphone64_x86_64\n",
+            "pm list packages", "package:com.android.settings\npackage:com.example.app\n");
+    private final AtomicInteger shellsOpened = new AtomicInteger();
+    private ServerSocket server;
+    private AdbClient adb;
+
+    @BeforeClass
+    public void startFakeAdbServer() throws IOException {
+        server = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread handler = new Thread(() -> handle(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        adb = new AdbClient("127.0.0.1", server.getLocalPort());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopFakeAdbServer() throws IOException {
+        adb.close();
+        server.close();
+    }
+
+    @Test(description = "host services")
+    @Description("Query version and devices from the adb server")
+    @Story("Adb host services")
+    public void hostServices() throws IOException {
+        Assert.assertEquals(adb.version(), 41);
+        Assert.assertEquals(adb.devices(), List.of("emulator-5554"));
+    }
+
+    @Test(description = "persistent shell")
+    @Description("Shell commands reuse one shell stream per device")
+    @Story("Adb shell")
+    public void persistentShell() throws IOException {
+        Assert.assertEquals(adb.shell("emulator-5554", "getprop ro.build.version.release").trim(), "14");
+        Assert.assertEquals(adb.shell("emulator-5554", "getprop ro.product.model").trim(), "sdk_gphone64_x86_64");
+        Assert.assertTrue(adb.shell("emulator-5554", "pm list packages").contains("package:com.example.app"));
+        Assert.assertEquals(shellsOpened.get(), 1);
+    }
+
+    @Test(description = "unknown device", expectedExceptions = AdbClient.CommandNotSentException.class)
+    @Description("Transport to an unknown device fails before the command is sent")
+    @Story("Adb shell")
+    public void unknownDevice() throws IOException {
+        adb.shell("emulator-5556", "getprop ro.product.model");
+    }
+
+    @Test(description = "shell lost after send")
+    @Description("A shell lost after the command was written is not reported as unsent")
+    @Story("Adb shell")
+    public void shellLostAfterSend() {
+        IOException failure = Assert.expectThrows(IOException.class, () -> adb.shell("emulator-5558", "reboot"));
+        Assert.assertFalse(failure instanceof AdbClient.CommandNotSentException);
+    }
+
+    @Test(description = "fan out timeout")
+    @Description("A device timing out in a fan out gets its shell closed and frees its pool thread")
+    @Story("Adb fan out")
+    public void fanOutTimeout() {
+        try (AdbFanOut fanOut = new AdbFanOut(1, adb)) {
+            AdbFanOut.Result<String> hung = fanOut.run(List.of("emulator-5558"),
+                    device -> adb.shell("emulator-5558", "hang"), Duration.ofMillis(300));
+            Assert.assertTrue(hung.failures().get("emulator-5558") instanceof TimeoutException);
+
+            AdbFanOut.Result<String> next = fanOut.run(List.of("emulator-5558"),
+                    device -> adb.shell("emulator-5558", "getprop ro.product.model").trim(), Duration.ofSeconds(5));
+            Assert.assertEquals(next.values().get("emulator-5558"), "sdk_gphone64_x86_64", String.valueOf(next.failures()));
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            String serial = null;
+            while (true) {
+                String request = request(in);
+                if (request.equals("host:version")) {
+                    reply(out, "0029");
+                    return;
+                } else if (request.equals("host:devices")) {
+                    reply(out, "emulator-5554\tdevice\nemulator-5556\toffline\n");
+                    return;
+                } else if (request.equals("host:transport:emulator-5554") || request.equals("host:transport:emulator-5558")) {
+                    serial = request.substring("host:transport:".length());
+                    out.write("OKAY".getBytes(StandardCharsets.US_ASCII));
+                } else if (request.equals("shell:sh")) {
+                    out.write("OKAY".getBytes(StandardCharsets.US_ASCII));
+                    if ("emulator-5554".equals(serial)) {
+                        shellsOpened.incrementAndGet();
+                    }
+                    shell(in, out);
+                    return;
+                } else {
+                    String message = "device '" + request + "' not found";
+                    out.write(("FAIL" + String.format("%04x", message.length()) + message).getBytes(StandardCharsets.US_ASCII));
+                    return;
+                }
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void shell(DataInputStream in, OutputStream out) throws IOException {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        boolean hanging = false;
+        while ((line = lines.readLine()) != null) {
+            if (hanging) {
+                // the command never finishes, nothing more is answered until the shell is closed
+                continue;
+            } else if (line.equals("{ hang")) {
+                hanging = true;
+            } else if (line.equals("{ reboot")) {
+                // the device goes away while running the command
+                return;
+            } else if (line.startsWith("{ ")) {
+                out.write(DEVICE.getOrDefault(line.substring(2), "").getBytes(StandardCharsets.UTF_8));
+            } else if (line.contains("echo; echo ")) {
+                out.write(("\n" + line.substring(line.lastIndexOf(' ') + 1) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+        }
+    }
+
+    private static String request(DataInputStream in) throws IOException {
+        byte[] length = new byte[4];
+        in.readFully(length);
+        return new String(in.readNBytes(Integer.parseInt(new String(length, StandardCharsets.US_ASCII), 16)), StandardCharsets.US_ASCII);
+    }
+
+    private static void reply(OutputStream out, String payload) throws IOException {
+        out.write(("OKAY" + String.format("%04x", payload.length()) + payload).getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
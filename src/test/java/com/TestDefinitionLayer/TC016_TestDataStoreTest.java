@@ -0,0 +1,202 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.TestDefinitionLayer;
+
+import com.utils.TestDataStore;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Feature("Test data")
+public class TC016_TestDataStoreTest {
+    private static final String SHEET = """
+            TestcaseInstance,TestcaseName,Field1,Value1,Field2,Value2
+            1,TC_Login,UserName,alice,Password,secret
+            2,TC_Login,UserName,bob,,
+            """;
+    private Path sheet;
+    private Path journal;
+
+    @BeforeClass
+    public void manualCompaction() {
+        // the sheet only changes on flush, assertions on it do not race the background writer
+        System.setProperty(TestDataStore.MANUAL_COMPACTION, "true");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void backgroundCompaction() {
+        System.clearProperty(TestDataStore.MANUAL_COMPACTION);
+    }
+
+    @BeforeMethod
+    public void createSheet() throws IOException {
+        sheet = Files.createTempDirectory("datastore").resolve("DataSheet.csv");
+        journal = sheet.resolveSibling("DataSheet.csv.journal");
+        Files.writeString(sheet, SHEET, StandardCharsets.UTF_8);
+    }
+
+    @Test(description = "index")
+    @Description("Rows are looked up by case insensitive test case name and instance")
+    @Story("Data sheet index")
+    public void index() {
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        Assert.assertEquals(store.get("tc_login", "UserName", 1), "alice");
+        Assert.assertEquals(store.get("TC_LOGIN", "UserName", 2), "bob");
+        Assert.assertEquals(store.row("TC_Login", 2), Map.of("UserName", "bob"));
+        Assert.assertEquals(store.row("TC_Unknown", 1), Map.of());
+    }
+
+    @Test(description = "reload")
+    @Description("The sheet is parsed again when the file changes on disk")
+    @Story("Data sheet index")
+    public void reload() throws IOException {
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        Assert.assertEquals(store.get("TC_Login", "UserName", 1), "alice");
+        Files.writeString(sheet, SHEET.replace("alice", "carol"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(sheet, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        Assert.assertEquals(store.get("TC_Login", "UserName", 1), "carol");
+    }
+
+    @Test(description = "overlay")
+    @Description("Updates are visible at once, before they reach the sheet")
+    @Story("Data sheet updates")
+    public void overlay() throws IOException {
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        store.put("TC_Login", "Password", "changed", 1);
+        store.put("TC_Login", "Token", "abc", 2);
+        store.put("TC_Missing", "Token", "abc", 1);
+        Assert.assertEquals(store.get("TC_Login", "Password", 1), "changed");
+        Assert.assertEquals(store.get("TC_Login", "Token", 2), "abc");
+        Assert.assertEquals(store.get("TC_Login", "UserName", 2), "bob");
+        Assert.assertEquals(store.row("TC_Missing", 1), Map.of());
+        Assert.assertTrue(Files.readString(sheet).contains("secret"), "sheet changed before compaction");
+    }
+
+    @Test(description = "compaction")
+    @Description("flush folds the journal into the sheet and keeps serving the compacted values")
+    @Story("Data sheet updates")
+    public void compaction() throws IOException {
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        store.put("TC_Login", "Password", "changed", 1);
+        store.put("TC_Login", "Token", "abc", 2);
+        store.flush();
+        Assert.assertFalse(Files.exists(journal), "journal left after compaction");
+        String written = Files.readString(sheet);
+        Assert.assertTrue(written.contains("Password,changed"), written);
+        Assert.assertTrue(written.contains("Token,abc"), written);
+        Assert.assertEquals(store.get("TC_Login", "Password", 1), "changed");
+        Assert.assertEquals(store.get("TC_Login", "Token", 2), "abc");
+        store.put("TC_Login", "Password", "again", 1);
+        Assert.assertEquals(store.get("TC_Login", "Password", 1), "again");
+        store.flush();
+        Assert.assertTrue(Files.readString(sheet).contains("Password,again"));
+    }
+
+    @Test(description = "field name case")
+    @Description("An update reuses the name of the existing field, before and after compaction")
+    @Story("Data sheet updates")
+    public void fieldNameCase() throws IOException {
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        store.put("TC_Login", "username", "carol", 1);
+        Assert.assertEquals(store.get("TC_Login", "UserName", 1), "carol");
+        store.flush();
+        Assert.assertEquals(store.get("TC_Login", "UserName", 1), "carol");
+        Assert.assertEquals(store.row("TC_Login", 1), Map.of("UserName", "carol", "Password", "secret"));
+        Assert.assertTrue(Files.readString(sheet).contains("UserName,carol"));
+    }
+
+    @Test(description = "concurrent writers")
+    @Description("Parallel updates of different test cases are all served and compacted")
+    @Story("Data sheet updates")
+    public void concurrentWriters() throws Exception {
+        int threads = 8;
+        int updates = 50;
+        StringBuilder rows = new StringBuilder("TestcaseInstance,TestcaseName,Field1,Value1\n");
+        for (int t = 0; t < threads; t++) {
+            rows.append("1,TC_Parallel").append(t).append(",Seed,0\n");
+        }
+        Files.writeString(sheet, rows, StandardCharsets.UTF_8);
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String testcase = "TC_Parallel" + t;
+                writers.add(executor.submit(() -> {
+                    for (int u = 0; u < updates; u++) {
+                        store.put(testcase, "Key" + (u % 10), testcase + "-" + u, 1);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        store.flush();
+        Assert.assertFalse(Files.exists(journal), "journal left after compaction");
+        String written = Files.readString(sheet);
+        for (int t = 0; t < threads; t++) {
+            for (int k = 0; k < 10; k++) {
+                String expected = "TC_Parallel" + t + "-" + (updates - 10 + k);
+                Assert.assertEquals(store.get("TC_Parallel" + t, "Key" + k, 1), expected);
+                Assert.assertTrue(written.contains("Key" + k + "," + expected), expected + " lost: " + written);
+            }
+        }
+    }
+
+    @Test(description = "journal replay")
+    @Description("Updates journaled before a crash are served and compacted by the next store")
+    @Story("Data sheet updates")
+    public void journalReplay() throws IOException {
+        Files.writeString(journal, "TC_Login,1,Password,recovered\nTC_Login,2,Token,xyz\n", StandardCharsets.UTF_8);
+        TestDataStore store = TestDataStore.of(sheet.toString());
+        Assert.assertEquals(store.get("TC_Login", "Password", 1), "recovered");
+        Assert.assertEquals(store.get("TC_Login", "Token", 2), "xyz");
+        store.flush();
+        Assert.assertFalse(Files.exists(journal), "journal left after compaction");
+        Assert.assertTrue(Files.readString(sheet).contains("Password,recovered"));
+        Assert.assertEquals(store.get("TC_Login", "Token", 2), "xyz");
+    }
+}
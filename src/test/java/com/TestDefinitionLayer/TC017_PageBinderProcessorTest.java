@@ -0,0 +1,221 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.TestDefinitionLayer;
+
+import com.processor.PageBinderProcessor;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Feature("Page binder")
+public class TC017_PageBinderProcessorTest {
+    private static final String IMPORTS = """
+            package sample;
+
+            import io.appium.java_client.pagefactory.AndroidFindBy;
+            import io.appium.java_client.pagefactory.iOSXCUITFindBy;
+            import org.openqa.selenium.WebElement;
+            import org.openqa.selenium.support.FindAll;
+            import org.openqa.selenium.support.FindBy;
+            import org.openqa.selenium.support.FindBys;
+            import org.openqa.selenium.support.How;
+
+            import java.util.List;
+
+            """;
+
+    @Test(description = "find by")
+    @Description("@FindBy attributes and how/using pairs become Selenium locators")
+    @Story("Web locators")
+    public void findBy() throws IOException {
+        Compilation compilation = compile("""
+                public class LoginPage {
+                    @FindBy(id = "user")
+                    WebElement user;
+                    @FindBy(how = How.CSS, using = "#login")
+                    WebElement login;
+                    @FindBy(how = How.ID_OR_NAME, using = "q")
+                    WebElement search;
+                    @FindBy(xpath = "//a")
+                    List<WebElement> links;
+                }
+                """);
+        compilation.assertSucceeded();
+        String binder = compilation.binder("LoginPage");
+        Assert.assertTrue(binder.contains("USER = By.id(\"user\");"), binder);
+        Assert.assertTrue(binder.contains("LOGIN = By.cssSelector(\"#login\");"), binder);
+        Assert.assertTrue(binder.contains("SEARCH = new ByIdOrName(\"q\");"), binder);
+        Assert.assertTrue(binder.contains("page.user = cache.element(USER);"), binder);
+        Assert.assertTrue(binder.contains("page.links = cache.elements(LINKS);"), binder);
+        Assert.assertFalse(binder.contains("cache.isIos()"), binder);
+    }
+
+    @Test(description = "find all and find bys")
+    @Description("@FindAll and @FindBys become ByAll and ByChained of their nested locators")
+    @Story("Web locators")
+    public void findAllAndFindBys() throws IOException {
+        Compilation compilation = compile("""
+                public class MenuPage {
+                    @FindAll({@FindBy(id = "menu"), @FindBy(name = "menu")})
+                    WebElement menu;
+                    @FindBys({@FindBy(css = "nav"), @FindBy(tagName = "li")})
+                    List<WebElement> items;
+                }
+                """);
+        compilation.assertSucceeded();
+        String binder = compilation.binder("MenuPage");
+        Assert.assertTrue(binder.contains("MENU = new ByAll(By.id(\"menu\"), By.name(\"menu\"));"), binder);
+        Assert.assertTrue(binder.contains("ITEMS = new ByChained(By.cssSelector(\"nav\"), By.tagName(\"li\"));"), binder);
+        Assert.assertTrue(binder.contains("import org.openqa.selenium.support.pagefactory.ByAll;"), binder);
+        Assert.assertTrue(binder.contains("import org.openqa.selenium.support.pagefactory.ByChained;"), binder);
+    }
+
+    @Test(description = "mobile locators")
+    @Description("Android and iOS locators of one field are picked by the platform of the session")
+    @Story("Mobile locators")
+    public void mobileLocators() throws IOException {
+        Compilation compilation = compile("""
+                public class BookingPage {
+                    @AndroidFindBy(accessibility = "book")
+                    @iOSXCUITFindBy(iOSNsPredicate = "visible == 1")
+                    WebElement book;
+                    @AndroidFindBy(uiAutomator = "new UiSelector().resourceId(\\"hotels\\")")
+                    WebElement hotels;
+                }
+                """);
+        compilation.assertSucceeded();
+        String binder = compilation.binder("BookingPage");
+        Assert.assertTrue(binder.contains("BOOK = AppiumBy.accessibilityId(\"book\");"), binder);
+        Assert.assertTrue(binder.contains("BOOK_IOS = AppiumBy.iOSNsPredicateString(\"visible == 1\");"), binder);
+        Assert.assertTrue(binder.contains("HOTELS = AppiumBy.androidUIAutomator("), binder);
+        Assert.assertFalse(binder.contains("HOTELS_IOS"), binder);
+        Assert.assertTrue(binder.contains("boolean ios = cache.isIos();"), binder);
+        Assert.assertTrue(binder.contains("page.book = cache.element(ios ? BOOK_IOS : BOOK);"), binder);
+        Assert.assertTrue(binder.contains("page.hotels = cache.element(HOTELS);"), binder);
+    }
+
+    @Test(description = "public fields")
+    @Description("Public page elements keep their visibility and are bound like package-private ones")
+    @Story("Mobile locators")
+    public void publicFields() throws IOException {
+        Compilation compilation = compile("""
+                public class CartPage {
+                    @AndroidFindBy(id = "cart")
+                    public WebElement cart;
+                    @AndroidFindBy(id = "checkout")
+                    protected WebElement checkout;
+                }
+                """);
+        compilation.assertSucceeded();
+        String binder = compilation.binder("CartPage");
+        Assert.assertTrue(binder.contains("page.cart = cache.element(CART);"), binder);
+        Assert.assertTrue(binder.contains("page.checkout = cache.element(CHECKOUT);"), binder);
+    }
+
+    @Test(description = "rejected fields")
+    @Description("Private, final, ambiguous and mixed web and mobile fields fail the compilation without a binder")
+    @Story("Validation")
+    public void rejectedFields() throws IOException {
+        Compilation compilation = compile("""
+                public class BrokenPage {
+                    @FindBy(id = "hidden")
+                    private WebElement hidden;
+                    @FindBy(id = "constant")
+                    final WebElement constant = null;
+                    @FindBy(id = "user", name = "user")
+                    WebElement ambiguous;
+                    @FindBy(id = "mixed")
+                    @AndroidFindBy(id = "mixed")
+                    WebElement mixed;
+                    @FindBy(id = "text")
+                    String text;
+                }
+                """);
+        Assert.assertFalse(compilation.succeeded(), compilation.errors().toString());
+        Assert.assertEquals(compilation.errors(), List.of(
+                "Page element must not be private, static or final",
+                "Page element must not be private, static or final",
+                "@FindBy needs exactly one locator",
+                "Page element must not combine @FindBy, @FindAll or @FindBys with mobile locators",
+                "Page element must be a WebElement or a List<WebElement>"));
+        Assert.assertFalse(Files.exists(compilation.generated().resolve("sample/BrokenPageBinder.java")));
+    }
+
+    private static Compilation compile(String page) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path output = Files.createTempDirectory("page-binder");
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        Path generated = Files.createDirectories(output.resolve("generated"));
+        String name = page.substring(page.indexOf("class ") + 6, page.indexOf(" {"));
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return IMPORTS + page;
+            }
+        };
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", generated.toString()),
+                null, List.of(source));
+        task.setProcessors(List.of(new PageBinderProcessor()));
+        boolean succeeded = task.call();
+        return new Compilation(succeeded, diagnostics.getDiagnostics(), generated);
+    }
+
+    private record Compilation(boolean succeeded, List<Diagnostic<? extends JavaFileObject>> diagnostics, Path generated) {
+
+        private List<String> errors() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+                    .collect(Collectors.toList());
+        }
+
+        private void assertSucceeded() {
+            Assert.assertTrue(succeeded, errors().toString());
+        }
+
+        private String binder(String page) throws IOException {
+            return Files.readString(generated.resolve("sample/" + page + "Binder.java"));
+        }
+    }
+}
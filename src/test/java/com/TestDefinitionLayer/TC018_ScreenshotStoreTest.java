@@ -0,0 +1,187 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.TestDefinitionLayer;
+
+import com.reporting.capture.PerceptualHash;
+import com.reporting.evidence.EvidenceFormat;
+import com.reporting.evidence.EvidenceSettings;
+import com.reporting.evidence.EvidenceWriter;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+@Feature("Evidence")
+public class TC018_ScreenshotStoreTest {
+    private static final int WIDTH = 320;
+    private static final int HEIGHT = 240;
+    private static final String MEDIA = "word/media/";
+
+    @Test(description = "perceptual hash")
+    @Description("Alike images have a small hash distance, different layouts a large one")
+    @Story("Perceptual hash")
+    public void perceptualHash() {
+        BufferedImage page = page();
+        BufferedImage touched = page();
+        touched.setRGB(10, 10, 0x000000);
+        BufferedImage darker = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        BufferedImage lighter = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < WIDTH; x++) {
+            int grey = 255 * x / WIDTH;
+            for (int y = 0; y < HEIGHT; y++) {
+                darker.setRGB(x, y, new Color(255 - grey, 255 - grey, 255 - grey).getRGB());
+                lighter.setRGB(x, y, new Color(grey, grey, grey).getRGB());
+            }
+        }
+        Assert.assertEquals(PerceptualHash.distance(PerceptualHash.of(page), PerceptualHash.of(page())), 0);
+        Assert.assertTrue(PerceptualHash.distance(PerceptualHash.of(page), PerceptualHash.of(touched)) <= 2);
+        Assert.assertTrue(PerceptualHash.distance(PerceptualHash.of(darker), PerceptualHash.of(lighter)) > 200);
+    }
+
+    @Test(description = "exact duplicates")
+    @Description("Byte identical screenshots are stored once, also without perceptual merging")
+    @Story("Screenshot store")
+    public void exactDuplicates() throws IOException {
+        byte[] png = png(page());
+        byte[] notAnImage = {1, 2, 3};
+        Map<String, byte[]> images = images(new EvidenceSettings(EvidenceFormat.DOCX, false, 0.8f, -1),
+                png, png.clone(), notAnImage);
+        Assert.assertEquals(List.copyOf(images.keySet()), List.of(MEDIA + "image1.png", MEDIA + "image2.png"));
+        Assert.assertEquals(images.get(MEDIA + "image1.png"), png, "picture re-encoded without perceptual merging or JPEG");
+        Assert.assertEquals(images.get(MEDIA + "image2.png"), notAnImage);
+    }
+
+    @Test(description = "perceptual duplicates")
+    @Description("Screenshots within the hash distance are merged when every 8x8 cell has nearly the same brightness")
+    @Story("Screenshot store")
+    public void perceptualDuplicates() throws IOException {
+        BufferedImage noise = page();
+        noise.setRGB(100, 100, noise.getRGB(100, 100) ^ 0x010101);
+        BufferedImage message = page();
+        Graphics2D graphics = message.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(200, 200, 24, 6);
+        graphics.dispose();
+        Assert.assertTrue(PerceptualHash.distance(PerceptualHash.of(page()), PerceptualHash.of(message)) <= 16,
+                "hash alone would merge the validation message");
+        Map<String, byte[]> images = images(new EvidenceSettings(EvidenceFormat.DOCX, false, 0.8f, 16),
+                png(page()), png(noise), png(message));
+        Assert.assertEquals(images.size(), 2, images.keySet().toString());
+    }
+
+    @Test(description = "cells")
+    @Description("The cell check tolerates tiny brightness changes but no changed cell or size")
+    @Story("Screenshot store")
+    public void cells() throws IOException {
+        BufferedImage pixel = page();
+        pixel.setRGB(0, 0, pixel.getRGB(0, 0) ^ 0x101010);
+        BufferedImage block = page();
+        for (int x = 40; x < 48; x++) {
+            for (int y = 40; y < 48; y++) {
+                block.setRGB(x, y, 0xffffff);
+            }
+        }
+        BufferedImage taller = new BufferedImage(WIDTH, HEIGHT + 8, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = taller.createGraphics();
+        graphics.drawImage(page(), 0, 0, null);
+        graphics.dispose();
+        Map<String, byte[]> images = images(new EvidenceSettings(EvidenceFormat.DOCX, false, 0.8f, 16),
+                png(page()), png(pixel), png(block), png(taller));
+        Assert.assertEquals(images.size(), 3, images.keySet().toString());
+    }
+
+    @Test(description = "jpeg")
+    @Description("New pictures are re-encoded as JPEG when configured")
+    @Story("Screenshot store")
+    public void jpeg() throws IOException {
+        Map<String, byte[]> images = images(new EvidenceSettings(EvidenceFormat.DOCX, true, 0.8f, -1), png(page()));
+        Assert.assertEquals(List.copyOf(images.keySet()), List.of(MEDIA + "image1.jpeg"));
+        Assert.assertNotNull(ImageIO.read(new ByteArrayInputStream(images.get(MEDIA + "image1.jpeg"))));
+    }
+
+    /**
+     * Writes the screenshots into an evidence document and returns the pictures it stored.
+     */
+    private static Map<String, byte[]> images(EvidenceSettings settings, byte[]... screenshots) throws IOException {
+        Path directory = Files.createTempDirectory("evidence");
+        Path document;
+        try (EvidenceWriter writer = settings.format().open(directory, "evidence", settings)) {
+            for (int i = 0; i < screenshots.length; i++) {
+                writer.add("step " + (i + 1), screenshots[i]);
+            }
+            document = writer.getPath();
+        }
+        Map<String, byte[]> images = new LinkedHashMap<>();
+        try (ZipFile zip = new ZipFile(document.toFile())) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                if (entry.getName().startsWith(MEDIA)) {
+                    images.put(entry.getName(), zip.getInputStream(entry).readAllBytes());
+                }
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Grey page with a dark header and a few text like bars.
+     */
+    private static BufferedImage page() {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(0xf0f0f0));
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(new Color(0x203040));
+        graphics.fillRect(0, 0, WIDTH, 32);
+        graphics.setColor(new Color(0x606060));
+        for (int y = 56; y < 180; y += 24) {
+            graphics.fillRect(24, y, 120 + y / 2, 8);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+package com.TestDefinitionLayer;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.reporting.extentreport.ExtentTestManager;
+import com.reporting.listeners.TestListener;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+@Feature("Reporting")
+public class TC019_ExtentTestManagerTest {
+
+    @Test(description = "end test then listener")
+    @Description("Listeners still resolve the test after the test body ended it in a finally block")
+    @Story("Extent test registry")
+    public void endTestThenListener() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        TestListener listener = new TestListener();
+        listener.onTestStart(result);
+        try {
+            ExtentTestManager.startTest("endTestThenListener", "Extent test registry");
+        } finally {
+            ExtentTestManager.endTest();
+        }
+        ExtentTest test = ExtentTestManager.getTest(result);
+        Assert.assertNotNull(test);
+        listener.onTestSuccess(result);
+        Assert.assertSame(ExtentTestManager.getTest(), test);
+    }
+
+    @Test(description = "end test then failure")
+    @Description("A failure of a test without a driver is logged after the test body ended it")
+    @Story("Extent test registry")
+    public void endTestThenFailure() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        TestListener listener = new TestListener();
+        listener.onTestStart(result);
+        ExtentTestManager.startTest("endTestThenFailure", "Extent test registry");
+        ExtentTestManager.endTest();
+        listener.onTestFailure(result);
+        Assert.assertNotNull(ExtentTestManager.getTest());
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+MIT License
+
+Copyright (c) 2025 Dipjyoti Metia
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+
+
+package com.TestDefinitionLayer;
+
+import com.core.GridDispatcher;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+@Feature("Grid dispatcher")
+public class TC020_GridDispatcherTest {
+
+    @Test(description = "spill over")
+    @Description("Leases go to the first provider with a free slot and a released slot is leased again")
+    @Story("Grid capacity")
+    public void spillOver() throws Exception {
+        GridDispatcher dispatcher = dispatcher(Duration.ofSeconds(1), "local", 1, "sauce", 1);
+        Assert.assertEquals(dispatcher.lease(Set.of()), "local");
+        Assert.assertEquals(dispatcher.lease(Set.of()), "sauce");
+        dispatcher.release("local");
+        Assert.assertEquals(dispatcher.lease(Set.of()), "local");
+        Assert.assertEquals(dispatcher.inFlight("local"), 1);
+        Assert.assertEquals(dispatcher.inFlight("sauce"), 1);
+    }
+
+    @Test(description = "fallback")
+    @Description("A provider failing to create the session frees its slot and the next provider is tried")
+    @Story("Session dispatch")
+    public void fallback() throws Exception {
+        GridDispatcher dispatcher = dispatcher(Duration.ofSeconds(1), "local", 2, "browserstack", 2, "sauce", 2);
+        List<String> tried = new ArrayList<>();
+        WebDriver driver = dispatcher.dispatch(provider -> {
+            tried.add(provider);
+            return switch (provider) {
+                case "local" -> throw new IllegalStateException("grid not reachable");
+                case "browserstack" -> null;
+                default -> session();
+            };
+        });
+        Assert.assertEquals(tried, List.of("local", "browserstack", "sauce"));
+        Assert.assertEquals(dispatcher.inFlight("local"), 0);
+        Assert.assertEquals(dispatcher.inFlight("browserstack"), 0);
+        Assert.assertEquals(dispatcher.inFlight("sauce"), 1);
+        dispatcher.release(driver);
+        dispatcher.release(driver);
+        Assert.assertEquals(dispatcher.inFlight("sauce"), 0);
+    }
+
+    @Test(description = "exhaustion", expectedExceptions = IllegalStateException.class)
+    @Description("The dispatch fails when the session could not be created on any provider")
+    @Story("Session dispatch")
+    public void exhaustion() throws Exception {
+        GridDispatcher dispatcher = dispatcher(Duration.ofSeconds(1), "local", 1, "sauce", 1);
+        try {
+            dispatcher.dispatch(provider -> {
+                throw new IllegalStateException(provider + " grid not reachable");
+            });
+        } finally {
+            Assert.assertEquals(dispatcher.inFlight("local"), 0);
+            Assert.assertEquals(dispatcher.inFlight("sauce"), 0);
+        }
+    }
+
+    @Test(description = "saturation", expectedExceptions = TimeoutException.class)
+    @Description("A lease fails after the timeout when every provider stays saturated")
+    @Story("Grid capacity")
+    public void saturation() throws Exception {
+        GridDispatcher dispatcher = dispatcher(Duration.ofMillis(200), "local", 1);
+        dispatcher.lease(Set.of());
+        dispatcher.lease(Set.of());
+    }
+
+    @Test(description = "queued lease")
+    @Description("A queued lease gets the slot freed by another thread")
+    @Story("Grid capacity")
+    public void queuedLease() throws Exception {
+        GridDispatcher dispatcher = dispatcher(Duration.ofSeconds(10), "local", 1);
+        dispatcher.lease(Set.of());
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                return;
+            }
+            dispatcher.release("local");
+        });
+        releaser.start();
+        Assert.assertEquals(dispatcher.lease(Set.of()), "local");
+        releaser.join();
+        Assert.assertEquals(dispatcher.inFlight("local"), 1);
+    }
+
+    private static GridDispatcher dispatcher(Duration timeout, Object... limits) {
+        Map<String, Integer> providers = new LinkedHashMap<>();
+        for (int i = 0; i < limits.length; i += 2) {
+            providers.put((String) limits[i], (Integer) limits[i + 1]);
+        }
+        return new GridDispatcher(providers, timeout);
+    }
+
+    /**
+     * Session stub, only its identity is used by the dispatcher.
+     */
+    private static WebDriver session() {
+        return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}